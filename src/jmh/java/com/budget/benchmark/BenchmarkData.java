@@ -0,0 +1,82 @@
+package com.budget.benchmark;
+
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.CyclicExpenseRate;
+import com.budget.domain.Expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeded synthetic datasets, so every run of a benchmark sees the same data.
+ */
+final class BenchmarkData {
+
+    static final YearMonth MONTH = YearMonth.of(2026, 2);
+
+    private static final String[] CATEGORIES = {"Groceries", "Gas", "Hobby", "Dining", "Transport", "Health"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Expenses spread over the two years up to and including {@link #MONTH}.
+     */
+    static List<Expense> expenses(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate first = MONTH.minusMonths(23).atDay(1);
+        int days = (int) (MONTH.atEndOfMonth().toEpochDay() - first.toEpochDay()) + 1;
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expenses.add(Expense.builder()
+                    .id((long) i)
+                    .amount(cents(random, 1_00, 500_00))
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .spentAt(first.plusDays(random.nextInt(days)))
+                    .build());
+        }
+        return expenses;
+    }
+
+    /**
+     * Cyclic expenses with intervals of 1, 3, 6 or 12 months, each with
+     * {@code rateHistory} rates starting a month apart and ending around {@link #MONTH}.
+     */
+    static List<CyclicExpense> cyclicExpenses(int count, int rateHistory, long seed) {
+        Random random = new Random(seed);
+        int[] intervals = {1, 3, 6, 12};
+        List<CyclicExpense> expenses = new ArrayList<>(count);
+        long rateId = 0;
+        for (int i = 0; i < count; i++) {
+            CyclicExpense expense = CyclicExpense.builder()
+                    .id(new UUID(seed, i))
+                    .name("Cyclic " + i)
+                    .cycleInterval(intervals[random.nextInt(intervals.length)])
+                    .active(random.nextInt(10) != 0)
+                    .rates(new HashSet<>())
+                    .build();
+            YearMonth start = MONTH.minusMonths(rateHistory - 1L + random.nextInt(3));
+            for (int r = 0; r < rateHistory; r++) {
+                expense.getRates().add(CyclicExpenseRate.builder()
+                        .id(rateId++)
+                        .amount(cents(random, 10_00, 2_000_00))
+                        .validFrom(start.plusMonths(r).atDay(1 + random.nextInt(28)))
+                        .active(true)
+                        .cyclicExpense(expense)
+                        .build());
+            }
+            expenses.add(expense);
+        }
+        return expenses;
+    }
+
+    private static BigDecimal cents(Random random, long min, long max) {
+        return BigDecimal.valueOf(min + (long) (random.nextDouble() * (max - min)), 2);
+    }
+}
@@ -0,0 +1,79 @@
+package com.budget.benchmark;
+
+import com.budget.application.service.CyclicExpenseCalculator;
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.CyclicExpenseRate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CyclicExpenseCalculator} and {@link CyclicExpense#rateFor} over every cyclic
+ * expense of a household, as a summary evaluates them for one month.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CyclicExpenseBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int cyclicExpenseCount;
+
+    @Param({"1", "12", "120"})
+    private int rateHistory;
+
+    private final CyclicExpenseCalculator calculator = new CyclicExpenseCalculator();
+
+    private AccountingMonth month;
+    private List<CyclicExpense> cyclicExpenses;
+
+    @Setup
+    public void setUp() {
+        month = new AccountingMonth(BenchmarkData.MONTH);
+        cyclicExpenses = BenchmarkData.cyclicExpenses(cyclicExpenseCount, rateHistory, 3L);
+    }
+
+    @Benchmark
+    public void applies(Blackhole blackhole) {
+        for (CyclicExpense expense : cyclicExpenses) {
+            blackhole.consume(calculator.applies(expense, month));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal appliesAndAmountForMonth() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (CyclicExpense expense : cyclicExpenses) {
+            if (calculator.applies(expense, month)) {
+                total = total.add(calculator.amountForMonth(expense, month));
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void rateFor(Blackhole blackhole) {
+        for (CyclicExpense expense : cyclicExpenses) {
+            Optional<CyclicExpenseRate> rate = expense.rateFor(BenchmarkData.MONTH);
+            blackhole.consume(rate);
+        }
+    }
+}
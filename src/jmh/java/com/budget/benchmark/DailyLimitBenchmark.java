@@ -0,0 +1,46 @@
+package com.budget.benchmark;
+
+import com.budget.application.service.DailyLimitCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class DailyLimitBenchmark {
+
+    @Param({"1234.56", "98765432.10"})
+    private String availableAmount;
+
+    private final DailyLimitCalculator calculator = new DailyLimitCalculator();
+
+    private BigDecimal available;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        available = new BigDecimal(availableAmount);
+        date = BenchmarkData.MONTH.atDay(17);
+    }
+
+    @Benchmark
+    public BigDecimal calculateFromDate() {
+        return calculator.calculateFromDate(available, date);
+    }
+}
@@ -0,0 +1,74 @@
+package com.budget.benchmark;
+
+import com.budget.BudgetApplication;
+import com.budget.application.dto.BulkImportResult;
+import com.budget.application.service.ExpenseImportService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Rows per second of {@link ExpenseImportService#importExpenses} on the embedded database,
+ * importing an NDJSON stream spread over a year of days. Not a JMH benchmark: each run is
+ * one large import, timed after warm-up runs of the same size. Arguments are the row count
+ * (default 100,000) and the number of measured runs (default 5), followed by Spring
+ * properties, e.g. {@code --budget.import.chunk-size=500}.
+ */
+public final class ExpenseImportThroughput {
+
+    private static final int WARMUP_RUNS = 3;
+
+    private ExpenseImportThroughput() {
+    }
+
+    public static void main(String[] args) {
+        int numbers = 0;
+        while (numbers < Math.min(args.length, 2) && !args[numbers].startsWith("--")) {
+            numbers++;
+        }
+        int rows = numbers > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int runs = numbers > 1 ? Integer.parseInt(args[1]) : 5;
+        String[] springArgs = Arrays.copyOfRange(args, numbers, args.length);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BudgetApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(springArgs)) {
+            ExpenseImportService importService = context.getBean(ExpenseImportService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            byte[] body = ndjson(rows);
+
+            for (int run = 1; run <= WARMUP_RUNS + runs; run++) {
+                long start = System.nanoTime();
+                BulkImportResult result = importService.importExpenses(new ByteArrayInputStream(body));
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                if (result.imported() != rows) {
+                    throw new IllegalStateException("Imported " + result.imported() + " of " + rows + " rows");
+                }
+                System.out.printf("%-7s %2d: %,d rows in %.2f s, %,.0f rows/s%n",
+                        run <= WARMUP_RUNS ? "warmup" : "run", run, rows, seconds, rows / seconds);
+                jdbcTemplate.update("DELETE FROM expenses");
+                jdbcTemplate.update("DELETE FROM monthly_spend");
+            }
+        }
+    }
+
+    private static byte[] ndjson(int rows) {
+        StringBuilder body = new StringBuilder(rows * 64);
+        LocalDate first = BenchmarkData.MONTH.minusMonths(11).atDay(1);
+        for (int i = 0; i < rows; i++) {
+            body.append("{\"amount\": ")
+                    .append(1 + i % 500).append('.').append(String.format("%02d", i % 100))
+                    .append(", \"category\": \"Import\", \"spentAt\": \"")
+                    .append(first.plusDays(i % 365))
+                    .append("\"}\n");
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
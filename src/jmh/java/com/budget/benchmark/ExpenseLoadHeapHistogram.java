@@ -0,0 +1,113 @@
+package com.budget.benchmark;
+
+import com.budget.BudgetApplication;
+import com.budget.domain.Expense;
+import com.budget.infrastructure.persistence.CategoryDictionary;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Loads every expense with {@code ExpenseRepository.findAll()} and prints the live heap
+ * histogram rows of the classes a loaded expense is made of. Not a JMH benchmark: it
+ * measures retained objects, not time. Arguments are the row count (default 1,000,000)
+ * followed by Spring properties, e.g. {@code --budget.persistence.intern-dates=false}
+ * to compare against one {@code LocalDate} per row.
+ */
+public final class ExpenseLoadHeapHistogram {
+
+    private static final String[] CATEGORIES = {"Groceries", "Gas", "Hobby", "Dining", "Transport", "Health"};
+    private static final Set<String> CLASSES = Set.of(
+            "com.budget.domain.Expense", "java.time.LocalDate", "java.lang.String", "[B",
+            "java.math.BigDecimal", "java.math.BigInteger", "[I", "java.lang.Long");
+    private static final int INSERT_BATCH = 10_000;
+
+    private ExpenseLoadHeapHistogram() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 && !args[0].startsWith("--") ? Integer.parseInt(args[0]) : 1_000_000;
+        String[] springArgs = args.length > 0 && !args[0].startsWith("--")
+                ? Arrays.copyOfRange(args, 1, args.length)
+                : args;
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BudgetApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(springArgs)) {
+            insert(context, rows);
+
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+            List<Expense> loaded = readOnly.execute(status -> context.getBean(ExpenseRepository.class).findAll());
+
+            System.out.printf("Loaded %,d expenses (intern-dates=%s)%n", loaded.size(),
+                    context.getEnvironment().getProperty("budget.persistence.intern-dates", "true"));
+            printHistogram();
+            Reference.reachabilityFence(loaded);
+        }
+    }
+
+    /**
+     * Inserts {@code rows} expenses over two years with plain JDBC batches; the loaded
+     * entities are what is measured, not how they got into the table.
+     */
+    private static void insert(ConfigurableApplicationContext context, int rows) {
+        CategoryDictionary dictionary = context.getBean(CategoryDictionary.class);
+        int[] categoryIds = Arrays.stream(CATEGORIES).mapToInt(dictionary::idFor).toArray();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Random random = new Random(42);
+        LocalDate first = BenchmarkData.MONTH.minusMonths(23).atDay(1);
+        int days = (int) (BenchmarkData.MONTH.atEndOfMonth().toEpochDay() - first.toEpochDay()) + 1;
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[] {
+                    (long) i,
+                    BigDecimal.valueOf(100 + random.nextInt(50_000), 2),
+                    categoryIds[random.nextInt(categoryIds.length)],
+                    Date.valueOf(first.plusDays(random.nextInt(days)))});
+            if (batch.size() == INSERT_BATCH || i == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO expenses (id, version, amount, category_id, spent_at) VALUES (?, 0, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Live objects only: the diagnostic command runs a full GC before counting.
+     */
+    private static void printHistogram() throws Exception {
+        String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "gcClassHistogram",
+                new Object[] {null},
+                new String[] {String[].class.getName()});
+        String[] lines = histogram.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            String[] columns = line.trim().split("\\s+");
+            boolean header = i < 2;
+            boolean total = line.startsWith("Total");
+            boolean tracked = columns.length >= 4 && CLASSES.contains(columns[3]);
+            if (header || total || tracked) {
+                System.out.println(line);
+            }
+        }
+    }
+}
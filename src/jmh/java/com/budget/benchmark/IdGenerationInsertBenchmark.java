@@ -0,0 +1,163 @@
+package com.budget.benchmark;
+
+import com.budget.BudgetApplication;
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.CyclicExpenseRate;
+import com.budget.domain.Expense;
+import com.budget.infrastructure.repository.CyclicExpenseRepository;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput of expenses, and of cyclic expenses with their cascaded rates, through
+ * the application's repositories and entity mappings on the embedded database. The id
+ * generation of {@link Expense} and {@link CyclicExpenseRate} is overridden with an
+ * {@code orm.xml}: {@code allocationSize=0} maps them as IDENTITY columns, any other value
+ * as sequences with that allocation size. The schema is created from the mappings, so the
+ * sequences' INCREMENT BY follows. Cyclic expenses have assigned UUIDs in every run.
+ * The whole Hibernate and Spring Data path has to be compiled, so warm-up and measurement
+ * iterations are longer than in the other benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class IdGenerationInsertBenchmark {
+
+    private static final int EXPENSES_PER_INVOCATION = 1_000;
+    private static final int CYCLIC_EXPENSES_PER_INVOCATION = 100;
+    private static final int RATES_PER_CYCLIC_EXPENSE = 10;
+
+    @Param({"0", "1", "50", "500"})
+    private int allocationSize;
+
+    private Path mapping;
+    private ConfigurableApplicationContext context;
+    private ExpenseRepository expenseRepository;
+    private CyclicExpenseRepository cyclicExpenseRepository;
+    private JdbcTemplate jdbcTemplate;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapping = Files.createTempFile("id-generation", ".orm.xml");
+        Files.writeString(mapping, ormXml(allocationSize));
+        context = new SpringApplicationBuilder(BudgetApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:id_generation_" + allocationSize + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.mapping-resources=" + mapping.toUri(),
+                        "--logging.level.root=WARN");
+        expenseRepository = context.getBean(ExpenseRepository.class);
+        cyclicExpenseRepository = context.getBean(CyclicExpenseRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        jdbcTemplate.update("DELETE FROM cyclic_expense_rates");
+        jdbcTemplate.update("DELETE FROM cyclic_expenses");
+        jdbcTemplate.update("DELETE FROM expenses");
+        jdbcTemplate.update("DELETE FROM monthly_spend");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(mapping);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EXPENSES_PER_INVOCATION)
+    public List<Expense> saveExpenses() {
+        List<Expense> expenses = new ArrayList<>(EXPENSES_PER_INVOCATION);
+        LocalDate first = BenchmarkData.MONTH.atDay(1);
+        for (int i = 0; i < EXPENSES_PER_INVOCATION; i++) {
+            expenses.add(Expense.builder()
+                    .amount(BigDecimal.valueOf(100 + i % 5_000, 2))
+                    .category("Benchmark")
+                    .spentAt(first.plusDays(i % 28))
+                    .build());
+        }
+        return expenseRepository.saveAll(expenses);
+    }
+
+    /**
+     * One operation is one cyclic expense with {@value #RATES_PER_CYCLIC_EXPENSE} rates.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CYCLIC_EXPENSES_PER_INVOCATION)
+    public List<CyclicExpense> saveCyclicExpensesWithRates() {
+        int batch = invocation++;
+        List<CyclicExpense> cyclicExpenses = new ArrayList<>(CYCLIC_EXPENSES_PER_INVOCATION);
+        LocalDate firstRate = BenchmarkData.MONTH.minusMonths(RATES_PER_CYCLIC_EXPENSE).atDay(1);
+        for (int i = 0; i < CYCLIC_EXPENSES_PER_INVOCATION; i++) {
+            CyclicExpense cyclicExpense = CyclicExpense.builder()
+                    .name("Cyclic " + batch + "-" + i)
+                    .cycleInterval(1 + i % 12)
+                    .rates(new HashSet<>())
+                    .build();
+            for (int r = 0; r < RATES_PER_CYCLIC_EXPENSE; r++) {
+                cyclicExpense.getRates().add(CyclicExpenseRate.builder()
+                        .amount(BigDecimal.valueOf(10_00 + r * 100L, 2))
+                        .validFrom(firstRate.plusMonths(r))
+                        .cyclicExpense(cyclicExpense)
+                        .build());
+            }
+            cyclicExpenses.add(cyclicExpense);
+        }
+        return cyclicExpenseRepository.saveAll(cyclicExpenses);
+    }
+
+    private static String ormXml(int allocationSize) {
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <entity-mappings xmlns="https://jakarta.ee/xml/ns/persistence/orm" version="3.1">
+                    <entity class="com.budget.domain.Expense" metadata-complete="false">
+                        <attributes>%s</attributes>
+                    </entity>
+                    <entity class="com.budget.domain.CyclicExpenseRate" metadata-complete="false">
+                        <attributes>%s</attributes>
+                    </entity>
+                </entity-mappings>
+                """.formatted(idMapping("expenses_seq", allocationSize), idMapping("cyclic_expense_rates_seq", allocationSize));
+    }
+
+    private static String idMapping(String sequence, int allocationSize) {
+        if (allocationSize == 0) {
+            return "<id name=\"id\"><generated-value strategy=\"IDENTITY\"/></id>";
+        }
+        return ("<id name=\"id\"><generated-value strategy=\"SEQUENCE\" generator=\"%1$s\"/>"
+                + "<sequence-generator name=\"%1$s\" sequence-name=\"%1$s\" allocation-size=\"%2$d\"/></id>")
+                .formatted(sequence, allocationSize);
+    }
+}
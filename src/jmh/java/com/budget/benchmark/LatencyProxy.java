@@ -0,0 +1,96 @@
+package com.budget.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TCP proxy that holds every chunk sent towards the database for a fixed time before
+ * forwarding it; responses pass straight through. Each connection is served by two
+ * platform threads, so that the proxy never waits for a carrier of the virtual thread
+ * scheduler it sits behind: a virtual thread pinned while it waits for the database, as
+ * in H2's synchronized client before JDK 24, would otherwise hold the carrier the proxy
+ * needs to forward the reply. Shared by the load tools that need a database with network
+ * latency.
+ */
+final class LatencyProxy implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final int targetPort;
+    private final long latencyMillis;
+    private final AtomicLong connections = new AtomicLong();
+
+    /**
+     * A free local port, for the H2 TCP server the proxy forwards to.
+     */
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    LatencyProxy(int targetPort, long latencyMillis) throws IOException {
+        this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        this.targetPort = targetPort;
+        this.latencyMillis = latencyMillis;
+        Thread.ofPlatform().daemon().name("latency-proxy").start(this::accept);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                Socket database = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                client.setTcpNoDelay(true);
+                database.setTcpNoDelay(true);
+                long id = connections.incrementAndGet();
+                Thread.ofPlatform().daemon().name("proxy-up-" + id).start(() -> pump(client, database, latencyMillis));
+                Thread.ofPlatform().daemon().name("proxy-down-" + id).start(() -> pump(database, client, 0));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private static void pump(Socket from, Socket to, long delayMillis) {
+        byte[] buffer = new byte[16 * 1024];
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // Either side closed the connection
+        } finally {
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,98 @@
+package com.budget.benchmark;
+
+import com.budget.application.service.CyclicExpenseCalculator;
+import com.budget.application.service.DailyLimitCalculator;
+import com.budget.application.service.LongCentsMonthlySummaryService;
+import com.budget.application.service.MonthlySummaryServiceImpl;
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.Expense;
+import com.budget.domain.MonthlyFunds;
+import com.budget.domain.MonthlySavings;
+import com.budget.domain.MonthlySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MonthlySummaryServiceImpl#calculate} over in-memory expense and cyclic expense
+ * lists, plus the aggregated-input path of both summary engines. The 10^7 dataset needs
+ * a large heap, hence the fork's -Xmx.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xmx8g"})
+public class MonthlySummaryBenchmark {
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int expenseCount;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int cyclicExpenseCount;
+
+    @Param({"12"})
+    private int rateHistory;
+
+    private final CyclicExpenseCalculator cyclicExpenseCalculator = new CyclicExpenseCalculator();
+    private final DailyLimitCalculator dailyLimitCalculator = new DailyLimitCalculator();
+    private final MonthlySummaryServiceImpl bigDecimalEngine =
+            new MonthlySummaryServiceImpl(cyclicExpenseCalculator, dailyLimitCalculator);
+    private final LongCentsMonthlySummaryService longCentsEngine =
+            new LongCentsMonthlySummaryService(cyclicExpenseCalculator, dailyLimitCalculator);
+
+    private AccountingMonth month;
+    private LocalDate requestDate;
+    private MonthlyFunds funds;
+    private MonthlySavings savings;
+    private List<Expense> expenses;
+    private List<CyclicExpense> cyclicExpenses;
+    private BigDecimal fixedCosts;
+    private BigDecimal spent;
+
+    @Setup
+    public void setUp() {
+        month = new AccountingMonth(BenchmarkData.MONTH);
+        requestDate = BenchmarkData.MONTH.atDay(14);
+        funds = MonthlyFunds.builder()
+                .year(BenchmarkData.MONTH.getYear())
+                .month(BenchmarkData.MONTH.getMonthValue())
+                .amount(new BigDecimal("9000000.00"))
+                .build();
+        savings = MonthlySavings.builder().amount(new BigDecimal("1000.00")).build();
+        expenses = BenchmarkData.expenses(expenseCount, 1L);
+        cyclicExpenses = BenchmarkData.cyclicExpenses(cyclicExpenseCount, rateHistory, 2L);
+        fixedCosts = new BigDecimal("185000.00");
+        spent = new BigDecimal("4321.09");
+    }
+
+    @Benchmark
+    public MonthlySummary calculateFromLists() {
+        return bigDecimalEngine.calculate(month, funds, savings, cyclicExpenses, expenses, requestDate);
+    }
+
+    @Benchmark
+    public MonthlySummary calculateFromTotalsBigDecimal() {
+        return bigDecimalEngine.calculate(month, funds, savings, fixedCosts, spent, requestDate);
+    }
+
+    @Benchmark
+    public MonthlySummary calculateFromTotalsLongCents() {
+        return longCentsEngine.calculate(month, funds, savings, fixedCosts, spent, requestDate);
+    }
+}
@@ -0,0 +1,92 @@
+package com.budget.benchmark;
+
+import com.budget.BudgetApplication;
+import com.budget.application.service.SummaryDataLoader;
+import com.budget.domain.AccountingMonth;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link SummaryDataLoader#load} with sequential and structured-concurrent
+ * loading ({@code budget.summary.parallel-loads}). The application runs against an H2 TCP
+ * server behind a {@link LatencyProxy}, so every query pays a simulated network delay.
+ * Months of the previous year are loaded at their last day and the fixed-cost horizon
+ * covers only the current month, so all four inputs are database queries on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SummaryDataLoadBenchmark {
+
+    @Param({"false", "true"})
+    private boolean parallelLoads;
+
+    @Param({"1", "5"})
+    private int latencyMillis;
+
+    private Server database;
+    private LatencyProxy proxy;
+    private ConfigurableApplicationContext context;
+    private SummaryDataLoader loader;
+    private AccountingMonth[] months;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = Server.createTcpServer("-tcpPort", String.valueOf(LatencyProxy.freePort()), "-ifNotExists").start();
+        proxy = new LatencyProxy(database.getPort(), latencyMillis);
+        context = new SpringApplicationBuilder(BudgetApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:tcp://localhost:" + proxy.port()
+                                + "/mem:summary_load;DB_CLOSE_DELAY=-1",
+                        "--budget.seed-current-year=true",
+                        "--budget.summary.parallel-loads=" + parallelLoads,
+                        "--budget.fixed-cost-calendar.years-back=0",
+                        "--budget.fixed-cost-calendar.years-forward=0",
+                        "--logging.level.root=WARN");
+        loader = context.getBean(SummaryDataLoader.class);
+
+        int previousYear = Year.now().getValue() - 1;
+        months = new AccountingMonth[12];
+        for (int month = 1; month <= 12; month++) {
+            months[month - 1] = new AccountingMonth(YearMonth.of(previousYear, month));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        proxy.close();
+        database.stop();
+    }
+
+    @Benchmark
+    public SummaryDataLoader.SummaryData load() {
+        AccountingMonth month = months[next++ % months.length];
+        return loader.load(month, month.lastDay());
+    }
+}
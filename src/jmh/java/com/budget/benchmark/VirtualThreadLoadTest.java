@@ -0,0 +1,183 @@
+package com.budget.benchmark;
+
+import com.budget.BudgetApplication;
+import org.h2.tools.Server;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Load test of the blocking request path on platform threads versus virtual threads.
+ * The application talks to an H2 TCP server through a {@link LatencyProxy} that delays
+ * every packet sent to the database, so each JDBC round trip costs as much as a remote
+ * database would. Many concurrent clients then request {@code /v1/summary} and {@code /v1/expenses}
+ * for a fixed time, and the throughput and latency percentiles of each endpoint are
+ * printed for both modes.
+ *
+ * <p>The virtual thread run uses the {@code virtual-threads} profile; both runs get the same
+ * connection pool size. Not a JMH benchmark; run it through the jmh profile with
+ * {@code -Djmh.main}.
+ * Arguments: concurrent clients (default 1000), measured seconds per mode (default 20),
+ * database latency in milliseconds (default 5) and connection pool size (default 200).
+ * The summary cache is limited to one entry and every request asks for a different
+ * month than the last, so summaries are recalculated from the database.
+ */
+public final class VirtualThreadLoadTest {
+
+    private static final String[] ENDPOINTS = {"/v1/summary", "/v1/expenses"};
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int latencyMillis = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int poolSize = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+
+        Server database = Server.createTcpServer("-tcpPort", String.valueOf(LatencyProxy.freePort()), "-ifNotExists").start();
+        try (LatencyProxy proxy = new LatencyProxy(database.getPort(), latencyMillis)) {
+            System.out.printf("%d clients, %d s per mode, %d ms database latency, pool of %d connections%n",
+                    clients, seconds, latencyMillis, poolSize);
+            System.out.printf("%-9s %-14s %10s %10s %9s %9s %8s%n",
+                    "threads", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+            for (boolean virtualThreads : new boolean[] {false, true}) {
+                run(virtualThreads, proxy.port(), clients, seconds, poolSize);
+            }
+        } finally {
+            database.stop();
+        }
+    }
+
+    private static void run(boolean virtualThreads, int databasePort, int clients, int seconds, int poolSize)
+            throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        // Command-line arguments, so they take precedence over the virtual-threads profile
+        SpringApplicationBuilder application = new SpringApplicationBuilder(BudgetApplication.class);
+        if (virtualThreads) {
+            application.profiles("virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:tcp://localhost:" + databasePort + "/mem:load_" + mode
+                        + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--budget.seed-current-year=true",
+                "--budget.summary-cache.max-entries=1",
+                "--logging.level.root=WARN")) {
+            // The jmh profile runs on the test classpath, whose configuration has no context path
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + context.getEnvironment().getProperty("server.servlet.context-path", "");
+
+            // Warm up the JIT, the connection pool and Tomcat before measuring
+            load(baseUrl, clients, Math.max(2, seconds / 4));
+            Result[] results = load(baseUrl, clients, seconds);
+            for (int i = 0; i < ENDPOINTS.length; i++) {
+                results[i].print(mode, ENDPOINTS[i], seconds);
+            }
+        }
+    }
+
+    private static Result[] load(String baseUrl, int clients, int seconds) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        int year = Year.now().getValue();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Result[]> perClient = new ArrayList<>(clients);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                Result[] results = {new Result(), new Result()};
+                perClient.add(results);
+                int offset = client;
+                workers.execute(() -> {
+                    for (int request = offset; System.nanoTime() < deadline; request++) {
+                        int endpoint = request % ENDPOINTS.length;
+                        String query = endpoint == 0
+                                ? "?year=" + year + "&month=" + (request / 2 % 12 + 1)
+                                : "?size=50";
+                        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + ENDPOINTS[endpoint] + query))
+                                .timeout(Duration.ofSeconds(60))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+                            results[endpoint].record(System.nanoTime() - start, response.statusCode() == 200);
+                        } catch (IOException e) {
+                            results[endpoint].record(System.nanoTime() - start, false);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        Result[] merged = {new Result(), new Result()};
+        for (Result[] results : perClient) {
+            merged[0].add(results[0]);
+            merged[1].add(results[1]);
+        }
+        return merged;
+    }
+
+    /**
+     * Latencies of one endpoint, recorded by a single client and merged afterwards.
+     */
+    private static final class Result {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void add(Result other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(count + other.count, latencies.length * 2));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        void print(String mode, String endpoint, int seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-9s %-14s %10d %10.0f %9.1f %9.1f %8d%n",
+                    mode, endpoint, count, (double) count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), errors);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
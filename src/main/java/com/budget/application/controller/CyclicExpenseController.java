@@ -1,7 +1,9 @@
 package com.budget.application.controller;
 
 import com.budget.application.dto.CreateCyclicExpenseRequest;
+import com.budget.application.dto.CursorPage;
 import com.budget.application.dto.UpdateCyclicExpenseRequest;
+import com.budget.application.service.CollectionVersions;
 import com.budget.application.service.CyclicExpenseService;
 import com.budget.domain.CyclicExpense;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,8 +17,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +30,7 @@ import java.util.UUID;
 public class CyclicExpenseController {
 
     private final CyclicExpenseService service;
+    private final CollectionVersions collectionVersions;
 
     @PostMapping
     @Operation(summary = "Create new cyclic expense with initial rate", description = "Create a new cyclic expense with an initial rate to define when it starts")
@@ -41,7 +46,11 @@ public class CyclicExpenseController {
     @GetMapping
     @Operation(summary = "Get all cyclic expenses", description = "Retrieve all cyclic expenses")
     @ApiResponse(responseCode = "200", description = "List of all cyclic expenses")
-    public ResponseEntity<List<CyclicExpense>> getAll() {
+    @ApiResponse(responseCode = "304", description = "No cyclic expense changed since the given ETag or date")
+    public ResponseEntity<List<CyclicExpense>> getAll(WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.CYCLIC_EXPENSES)) {
+            return null;
+        }
         List<CyclicExpense> expenses = service.findAll();
         return ResponseEntity.ok(expenses);
     }
@@ -49,17 +58,49 @@ public class CyclicExpenseController {
     @GetMapping(params = {"page", "size"})
     @Operation(summary = "Get cyclic expenses page", description = "Retrieve cyclic expenses with pagination")
     @ApiResponse(responseCode = "200", description = "List of cyclic expenses")
+    @ApiResponse(responseCode = "304", description = "No cyclic expense changed since the given ETag or date")
     public ResponseEntity<Page<CyclicExpense>> getPage(
             @RequestParam int page,
-            @RequestParam int size) {
+            @RequestParam int size,
+            WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.CYCLIC_EXPENSES)) {
+            return null;
+        }
         PageRequest pageable = PageRequest.of(page, size, Sort.by("name").ascending());
         return ResponseEntity.ok(service.findAll(pageable));
     }
 
+    @GetMapping(params = {"size", "!page"})
+    @Operation(
+        summary = "Scroll cyclic expenses",
+        description = "Retrieve cyclic expenses with keyset pagination (ordered by name). Pass the returned nextCursor "
+                + "as cursor to get the following page; nextCursor is null on the last page"
+    )
+    @Parameter(name = "size", description = "Page size (1-1000)", example = "50")
+    @Parameter(name = "cursor", description = "Continuation token from the previous page", required = false)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved"),
+            @ApiResponse(responseCode = "304", description = "No cyclic expense changed since the given ETag or date"),
+            @ApiResponse(responseCode = "400", description = "Invalid size or cursor")
+    })
+    public ResponseEntity<CursorPage<CyclicExpense>> scroll(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.CYCLIC_EXPENSES)) {
+            return null;
+        }
+        return ResponseEntity.ok(service.findPage(cursor, size));
+    }
+
     @GetMapping("/active")
     @Operation(summary = "Get active cyclic expenses", description = "Retrieve only active cyclic expenses")
     @ApiResponse(responseCode = "200", description = "List of active cyclic expenses")
-    public ResponseEntity<List<CyclicExpense>> getActive() {
+    @ApiResponse(responseCode = "304", description = "No cyclic expense changed since the given ETag or date")
+    public ResponseEntity<List<CyclicExpense>> getActive(WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.CYCLIC_EXPENSES)) {
+            return null;
+        }
         List<CyclicExpense> expenses = service.findActiveExpenses();
         return ResponseEntity.ok(expenses);
     }
@@ -68,10 +109,17 @@ public class CyclicExpenseController {
     @Operation(summary = "Get cyclic expense by ID", description = "Retrieve a specific cyclic expense by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cyclic expense found"),
+            @ApiResponse(responseCode = "304", description = "Cyclic expense unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Cyclic expense not found")
     })
     public ResponseEntity<CyclicExpense> getById(
-            @Parameter(description = "Cyclic expense ID", example = "550e8400-e29b-41d4-a716-446655440000") @PathVariable UUID id) {
+            @Parameter(description = "Cyclic expense ID", example = "550e8400-e29b-41d4-a716-446655440000") @PathVariable UUID id,
+            WebRequest webRequest) {
+        Optional<Long> version = service.findVersion(id);
+        if (version.isPresent() && collectionVersions.checkNotModified(webRequest,
+                CollectionVersions.Collection.CYCLIC_EXPENSES, id, version.get())) {
+            return null;
+        }
         return service.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -1,5 +1,13 @@
 package com.budget.application.controller;
 
+import com.budget.application.dto.BulkImportResult;
+import com.budget.application.dto.CursorPage;
+import com.budget.application.dto.ExpenseSearchCriteria;
+import com.budget.application.dto.PageCursor;
+import com.budget.application.service.CollectionVersions;
+import com.budget.application.service.ExpenseExportService;
+import com.budget.application.service.ExpenseImportService;
+import com.budget.application.service.ExpenseSearchService;
 import com.budget.domain.Expense;
 import com.budget.infrastructure.repository.ExpenseRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,13 +18,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/v1/expenses")
@@ -25,6 +46,10 @@ import java.util.List;
 public class ExpenseController {
 
     private final ExpenseRepository repository;
+    private final ExpenseImportService importService;
+    private final ExpenseExportService exportService;
+    private final ExpenseSearchService searchService;
+    private final CollectionVersions collectionVersions;
 
     @PostMapping
     @Operation(summary = "Create a new expense", description = "Add a new expense entry")
@@ -33,31 +58,197 @@ public class ExpenseController {
         return ResponseEntity.ok(repository.save(expense));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+        summary = "Import expenses in bulk",
+        description = "Import a JSON array or an NDJSON stream of expenses. Rows are validated individually and "
+                + "valid rows are persisted in batched transactions. The response reports the outcome of every row"
+    )
+    @ApiResponse(responseCode = "200", description = "Import processed; see per-row results")
+    public ResponseEntity<BulkImportResult> importBulk(InputStream body) {
+        return ResponseEntity.ok(importService.importExpenses(body));
+    }
+
     @GetMapping
     @Operation(summary = "Get all expenses", description = "Retrieve all expense entries")
     @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully")
-    public ResponseEntity<List<Expense>> getAll() {
+    @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date")
+    public ResponseEntity<List<Expense>> getAll(WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
         return ResponseEntity.ok(repository.findAll());
     }
 
+    @GetMapping("/search")
+    @Operation(
+        summary = "Search expenses",
+        description = "Filter expenses by date range, amount range and categories (all optional, bounds inclusive), "
+                + "sorted by spentAt or amount. Results use keyset pagination: pass the returned nextCursor as cursor, "
+                + "with the same filters and sort, to get the following page"
+    )
+    @Parameter(name = "from", description = "Earliest spentAt", example = "2026-01-01")
+    @Parameter(name = "to", description = "Latest spentAt", example = "2026-01-31")
+    @Parameter(name = "minAmount", description = "Smallest amount", example = "10.00")
+    @Parameter(name = "maxAmount", description = "Largest amount", example = "500.00")
+    @Parameter(name = "category", description = "Categories to include; repeat the parameter or separate with commas", example = "Food")
+    @Parameter(name = "sort", description = "spentAt or amount, followed by ,asc or ,desc", example = "spentAt,desc")
+    @Parameter(name = "size", description = "Page size (1-1000)", example = "50")
+    @Parameter(name = "cursor", description = "Continuation token from the previous page", required = false)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching expenses retrieved"),
+            @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, sort, size or cursor")
+    })
+    public ResponseEntity<CursorPage<Expense>> search(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(name = "category", required = false) List<String> categories,
+            @RequestParam(defaultValue = "spentAt,desc") String sort,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        ExpenseSearchCriteria criteria = new ExpenseSearchCriteria(
+                from,
+                to,
+                minAmount,
+                maxAmount,
+                categories == null ? null : new HashSet<>(categories),
+                ExpenseSearchCriteria.SortOrder.parse(sort));
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
+        return ResponseEntity.ok(searchService.search(criteria, cursor, size));
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export expenses",
+        description = "Stream all expenses spent in a date range as CSV or NDJSON, ordered by date. "
+                + "The response is gzip-compressed when the client sends Accept-Encoding: gzip"
+    )
+    @Parameter(name = "from", description = "First day of the range (inclusive)", example = "2026-01-01")
+    @Parameter(name = "to", description = "Last day of the range (inclusive)", example = "2026-12-31")
+    @Parameter(name = "format", description = "csv or ndjson", example = "csv")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or format")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        ExpenseExportService.Format exportFormat = ExpenseExportService.Format.parse(format);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(output)) {
+                    exportService.export(from, to, exportFormat, compressed);
+                }
+            } else {
+                exportService.export(from, to, exportFormat, output);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("expenses-" + from + "-" + to + "." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
     @GetMapping(params = {"page", "size"})
     @Operation(summary = "Get expenses page", description = "Retrieve expenses with pagination")
     @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date")
     public ResponseEntity<Page<Expense>> getPage(
             @RequestParam int page,
-            @RequestParam int size) {
+            @RequestParam int size,
+            WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
         PageRequest pageable = PageRequest.of(page, size, Sort.by("spentAt").descending());
         return ResponseEntity.ok(repository.findAll(pageable));
     }
 
+    @GetMapping(params = {"size", "!page"})
+    @Operation(
+        summary = "Scroll expenses",
+        description = "Retrieve expenses with keyset pagination (newest first). Pass the returned nextCursor "
+                + "as cursor to get the following page; nextCursor is null on the last page"
+    )
+    @Parameter(name = "size", description = "Page size (1-1000)", example = "50")
+    @Parameter(name = "cursor", description = "Continuation token from the previous page", required = false)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved"),
+            @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date"),
+            @ApiResponse(responseCode = "400", description = "Invalid size or cursor")
+    })
+    public ResponseEntity<CursorPage<Expense>> scroll(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        Limit limit = PageCursor.fetchLimit(size);
+        Expense after = cursor == null ? null : PageCursor.decode(cursor, 2, key -> Expense.builder()
+                .spentAt(LocalDate.parse(key[0]))
+                .id(Long.parseLong(key[1]))
+                .build());
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
+        List<Expense> rows = after == null
+                ? repository.findAllByOrderBySpentAtDescIdDesc(limit)
+                : repository.findPageAfter(after.getSpentAt(), after.getId(), limit);
+        return ResponseEntity.ok(CursorPage.of(rows, size, last -> PageCursor.encode(last.getSpentAt(), last.getId())));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get expense by ID", description = "Retrieve a specific expense by its ID")
     @Parameter(name = "id", description = "Expense ID", example = "1")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Expense found"),
+            @ApiResponse(responseCode = "304", description = "Expense unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Expense not found")
     })
-    public ResponseEntity<Expense> getById(@PathVariable Long id) {
+    public ResponseEntity<Expense> getById(@PathVariable Long id, WebRequest webRequest) {
+        // The version comes from the primary key; the expense is only loaded for a full response
+        Optional<Long> version = repository.findVersionById(id);
+        if (version.isPresent() && collectionVersions.checkNotModified(webRequest,
+                CollectionVersions.Collection.EXPENSES, id, version.get())) {
+            return null;
+        }
         return repository.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -67,7 +258,11 @@ public class ExpenseController {
     @Operation(summary = "Get expenses by category", description = "Retrieve all expenses in a specific category")
     @Parameter(name = "category", description = "Expense category", example = "Food")
     @ApiResponse(responseCode = "200", description = "Expenses retrieved successfully")
-    public ResponseEntity<List<Expense>> getByCategory(@PathVariable String category) {
+    @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date")
+    public ResponseEntity<List<Expense>> getByCategory(@PathVariable String category, WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
         return ResponseEntity.ok(repository.findByCategory(category));
     }
 
@@ -1,7 +1,10 @@
 package com.budget.application.controller;
 
+import com.budget.application.dto.CursorPage;
+import com.budget.application.service.CollectionVersions;
 import com.budget.application.service.MonthlyFundsService;
 import com.budget.domain.MonthlyFunds;
+import com.budget.infrastructure.repository.RowVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,8 +16,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/v1/monthly-funds")
@@ -23,6 +28,7 @@ import java.util.List;
 public class MonthlyFundsController {
 
     private final MonthlyFundsService service;
+    private final CollectionVersions collectionVersions;
 
     @PostMapping
     @Operation(summary = "Create new monthly funds", description = "Create a new entry for monthly funds")
@@ -38,7 +44,11 @@ public class MonthlyFundsController {
     @GetMapping
     @Operation(summary = "Get all monthly funds", description = "Retrieve all monthly funds entries")
     @ApiResponse(responseCode = "200", description = "List of all monthly funds")
-    public ResponseEntity<List<MonthlyFunds>> getAll() {
+    @ApiResponse(responseCode = "304", description = "No monthly funds changed since the given ETag or date")
+    public ResponseEntity<List<MonthlyFunds>> getAll(WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.MONTHLY_FUNDS)) {
+            return null;
+        }
         List<MonthlyFunds> funds = service.findAll();
         return ResponseEntity.ok(funds);
     }
@@ -46,22 +56,57 @@ public class MonthlyFundsController {
     @GetMapping(params = {"page", "size"})
     @Operation(summary = "Get monthly funds page", description = "Retrieve monthly funds with pagination")
     @ApiResponse(responseCode = "200", description = "List of monthly funds")
+    @ApiResponse(responseCode = "304", description = "No monthly funds changed since the given ETag or date")
     public ResponseEntity<Page<MonthlyFunds>> getPage(
             @RequestParam int page,
-            @RequestParam int size) {
+            @RequestParam int size,
+            WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.MONTHLY_FUNDS)) {
+            return null;
+        }
         PageRequest pageable = PageRequest.of(page, size, Sort.by("year", "month").descending());
         return ResponseEntity.ok(service.findAll(pageable));
     }
 
+    @GetMapping(params = {"size", "!page"})
+    @Operation(
+        summary = "Scroll monthly funds",
+        description = "Retrieve monthly funds with keyset pagination (latest month first). Pass the returned nextCursor "
+                + "as cursor to get the following page; nextCursor is null on the last page"
+    )
+    @Parameter(name = "size", description = "Page size (1-1000)", example = "50")
+    @Parameter(name = "cursor", description = "Continuation token from the previous page", required = false)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved"),
+            @ApiResponse(responseCode = "304", description = "No monthly funds changed since the given ETag or date"),
+            @ApiResponse(responseCode = "400", description = "Invalid size or cursor")
+    })
+    public ResponseEntity<CursorPage<MonthlyFunds>> scroll(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.MONTHLY_FUNDS)) {
+            return null;
+        }
+        return ResponseEntity.ok(service.findPage(cursor, size));
+    }
+
     @GetMapping("/{year}/{month}")
     @Operation(summary = "Get funds by year and month", description = "Retrieve monthly funds for a specific year and month")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Monthly funds found"),
+            @ApiResponse(responseCode = "304", description = "Monthly funds unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Monthly funds not found")
     })
     public ResponseEntity<MonthlyFunds> getByYearAndMonth(
             @Parameter(description = "Year", example = "2026") @PathVariable int year,
-            @Parameter(description = "Month", example = "2") @PathVariable int month) {
+            @Parameter(description = "Month", example = "2") @PathVariable int month,
+            WebRequest webRequest) {
+        Optional<RowVersion> version = service.findVersion(year, month);
+        if (version.isPresent() && collectionVersions.checkNotModified(webRequest,
+                CollectionVersions.Collection.MONTHLY_FUNDS, version.get().getId(), version.get().getVersion())) {
+            return null;
+        }
         return service.findByYearAndMonth(year, month)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -70,8 +115,13 @@ public class MonthlyFundsController {
     @GetMapping("/{year}")
     @Operation(summary = "Get funds by year", description = "Retrieve all monthly funds for a specific year")
     @ApiResponse(responseCode = "200", description = "List of monthly funds for the year")
+    @ApiResponse(responseCode = "304", description = "No monthly funds changed since the given ETag or date")
     public ResponseEntity<List<MonthlyFunds>> getByYear(
-            @Parameter(description = "Year", example = "2026") @PathVariable int year) {
+            @Parameter(description = "Year", example = "2026") @PathVariable int year,
+            WebRequest webRequest) {
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.MONTHLY_FUNDS)) {
+            return null;
+        }
         List<MonthlyFunds> funds = service.findByYear(year);
         return ResponseEntity.ok(funds);
     }
@@ -1,28 +1,41 @@
 package com.budget.application.controller;
 
+import com.budget.application.dto.CategoryBreakdown;
+import com.budget.application.dto.CategoryMonthMatrix;
+import com.budget.application.service.CategoryBreakdownService;
+import com.budget.application.service.CategoryMatrixService;
+import com.budget.application.service.CollectionVersions;
 import com.budget.application.service.DailyLimitCalculator;
-import com.budget.application.service.MonthlySummaryService;
-import com.budget.domain.*;
-import com.budget.infrastructure.repository.MonthlyFundsRepository;
-import com.budget.infrastructure.repository.MonthlySavingsRepository;
-import com.budget.infrastructure.repository.CyclicExpenseRepository;
-import com.budget.infrastructure.repository.ExpenseRepository;
+import com.budget.application.service.MonthlySummaryCache;
+import com.budget.application.service.MonthlySummaryQueryService;
+import com.budget.application.service.SummaryJsonCache;
+import com.budget.application.service.SummarySingleFlight;
+import com.budget.application.service.SummaryStreamService;
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.MonthlySummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -31,24 +44,30 @@ import java.util.List;
 @Tag(name = "Monthly Summary", description = "Calculate and retrieve monthly budget summaries")
 public class MonthlySummaryController {
 
-    private final MonthlySummaryService summaryService;
+    private final MonthlySummaryQueryService summaryQueryService;
     private final DailyLimitCalculator dailyLimitCalculator;
-    private final MonthlyFundsRepository fundsRepository;
-    private final MonthlySavingsRepository savingsRepository;
-    private final CyclicExpenseRepository cyclicExpenseRepository;
-    private final ExpenseRepository expenseRepository;
+    private final MonthlySummaryCache summaryCache;
+    private final CategoryBreakdownService categoryBreakdownService;
+    private final CategoryMatrixService categoryMatrixService;
+    private final SummaryStreamService summaryStreamService;
+    private final SummarySingleFlight summarySingleFlight;
+    private final SummaryJsonCache summaryJsonCache;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
     @Operation(summary = "Get monthly summary", description = "Calculate and retrieve summary for a specific or current date. By default uses today's date")
     @Parameter(name = "year", description = "Year (required if month/day provided)", example = "2026")
     @Parameter(name = "month", description = "Month 1-12 (required if year or day provided)", example = "2")
     @Parameter(name = "day", description = "Day of month 1-31 (optional, defaults to end-of-month if year/month provided)", example = "17", required = false)
-    @ApiResponse(responseCode = "200", description = "Monthly summary calculated")
+    @ApiResponse(responseCode = "200", description = "Monthly summary calculated",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = MonthlySummary.class)))
+    @ApiResponse(responseCode = "304", description = "Summary unchanged since the ETag in If-None-Match")
     @ApiResponse(responseCode = "400", description = "Invalid date parameters")
-    public ResponseEntity<MonthlySummary> getSummary(
+    public ResponseEntity<byte[]> getSummary(
             @RequestParam(required = false) Integer year,
             @RequestParam(required = false) Integer month,
-            @RequestParam(required = false) Integer day) {
+            @RequestParam(required = false) Integer day,
+            WebRequest webRequest) {
         
         LocalDate requestDate;
         
@@ -88,27 +107,151 @@ public class MonthlySummaryController {
         }
         
         YearMonth yearMonth = YearMonth.from(requestDate);
+        String variant = "summary-" + requestDate;
+        if (webRequest.checkNotModified(summaryJsonCache.etag(yearMonth, variant),
+                summaryLastModified(requestDate.equals(LocalDate.now())))) {
+            return null;
+        }
+
         AccountingMonth accountingMonth = new AccountingMonth(yearMonth);
+        LocalDate summaryDate = requestDate;
+        return json(summaryJsonCache.get(yearMonth, variant,
+                () -> summaryQueryService.summaryFor(accountingMonth, summaryDate)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream monthly summary updates",
+        description = "Server-Sent Events stream of the summary of a month (the current month by default). The first "
+                + "'summary' event is sent immediately; another follows whenever a write affects the month, at most "
+                + "once per budget.summary-stream.interval"
+    )
+    @Parameter(name = "year", description = "Year, together with month", example = "2026")
+    @Parameter(name = "month", description = "Month 1-12, together with year", example = "2")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    @ApiResponse(responseCode = "400", description = "Invalid year or month")
+    public SseEmitter streamSummary(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month) {
+        YearMonth yearMonth;
+        if (year == null && month == null) {
+            yearMonth = YearMonth.now();
+        } else {
+            if (year == null || month == null) {
+                throw new IllegalArgumentException("Both year and month are required");
+            }
+            if (year < 1900 || year > 2100) {
+                throw new IllegalArgumentException("Year must be between 1900 and 2100");
+            }
+            if (month < 1 || month > 12) {
+                throw new IllegalArgumentException("Month must be between 1 and 12");
+            }
+            yearMonth = YearMonth.of(year, month);
+        }
+        return summaryStreamService.subscribe(yearMonth);
+    }
+
+    @GetMapping("/year/{year}")
+    @Operation(summary = "Get yearly summary", description = "Calculate the summaries of all twelve months of a year, each as of the last day of its month")
+    @Parameter(name = "year", description = "Year", example = "2026", required = true)
+    @ApiResponse(responseCode = "200", description = "Monthly summaries for January through December")
+    @ApiResponse(responseCode = "304", description = "No summary of the year changed since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Invalid year")
+    public ResponseEntity<List<MonthlySummary>> getYearSummary(@PathVariable int year, WebRequest webRequest) {
+        if (year < 1900 || year > 2100) {
+            throw new IllegalArgumentException("Year must be between 1900 and 2100");
+        }
+        if (webRequest.checkNotModified(summaryJsonCache.etagForYear(year, "year"), summaryLastModified(false))) {
+            return null;
+        }
+        return ResponseEntity.ok(summaryQueryService.summariesForYear(year));
+    }
+
+    @GetMapping("/categories")
+    @Operation(
+        summary = "Get spend per category",
+        description = "Total and number of expenses per category for a month (year and month) or a date range "
+                + "(from and to), largest first. With top, only the largest categories are listed and the rest "
+                + "are summed into other"
+    )
+    @Parameter(name = "year", description = "Year, together with month", example = "2026")
+    @Parameter(name = "month", description = "Month 1-12, together with year", example = "2")
+    @Parameter(name = "from", description = "First day of a range, together with to", example = "2026-01-01")
+    @Parameter(name = "to", description = "Last day of a range, together with from", example = "2026-03-31")
+    @Parameter(name = "top", description = "Number of categories to list before grouping the rest", example = "5")
+    @ApiResponse(responseCode = "200", description = "Category breakdown calculated")
+    @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Invalid period or top")
+    public ResponseEntity<CategoryBreakdown> getCategoryBreakdown(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer top,
+            WebRequest webRequest) {
+        boolean monthGiven = year != null || month != null;
+        boolean rangeGiven = from != null || to != null;
+        if (monthGiven == rangeGiven) {
+            throw new IllegalArgumentException("Specify either year and month, or from and to");
+        }
+        if (monthGiven) {
+            if (year == null || month == null) {
+                throw new IllegalArgumentException("Both year and month are required");
+            }
+            if (year < 1900 || year > 2100) {
+                throw new IllegalArgumentException("Year must be between 1900 and 2100");
+            }
+            if (month < 1 || month > 12) {
+                throw new IllegalArgumentException("Month must be between 1 and 12");
+            }
+            AccountingMonth accountingMonth = new AccountingMonth(YearMonth.of(year, month));
+            from = accountingMonth.firstDay();
+            to = accountingMonth.lastDay();
+        } else if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
+        return ResponseEntity.ok(categoryBreakdownService.breakdown(from, to, top));
+    }
 
-        MonthlyFunds funds = fundsRepository
-            .findTopByYearAndMonthOrderByIdDesc(yearMonth.getYear(), yearMonth.getMonthValue())
-            .orElse(null);
-        MonthlySavings savings = savingsRepository.findAll().stream()
-                .findFirst()
-                .orElse(null);
-        List<CyclicExpense> cyclicExpenses = cyclicExpenseRepository.findAll();
-        List<Expense> expenses = expenseRepository.findAll();
-
-        MonthlySummary summary = summaryService.calculate(
-                accountingMonth,
-                funds,
-                savings,
-                cyclicExpenses,
-                expenses,
-                requestDate
-        );
-
-        return ResponseEntity.ok(summary);
+    @GetMapping("/categories/matrix")
+    @Operation(
+        summary = "Get spend per category per month",
+        description = "Spend matrix for a year, or for a range of months (from and to, at most 120 months), in columnar "
+                + "form: cents[c][m] is the spend of categories[c] in months[m], in cents"
+    )
+    @Parameter(name = "year", description = "Year", example = "2026")
+    @Parameter(name = "from", description = "First month of a range, together with to", example = "2025-07")
+    @Parameter(name = "to", description = "Last month of a range, together with from", example = "2026-06")
+    @ApiResponse(responseCode = "200", description = "Spend matrix calculated")
+    @ApiResponse(responseCode = "304", description = "No expense changed since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Invalid year or range")
+    public ResponseEntity<CategoryMonthMatrix> getCategoryMatrix(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            WebRequest webRequest) {
+        if (year != null) {
+            if (from != null || to != null) {
+                throw new IllegalArgumentException("Specify either year, or from and to");
+            }
+            if (year < 1900 || year > 2100) {
+                throw new IllegalArgumentException("Year must be between 1900 and 2100");
+            }
+            if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+                return null;
+            }
+            return ResponseEntity.ok(categoryMatrixService.matrixForYear(year));
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Specify either year, or from and to");
+        }
+        if (collectionVersions.checkNotModified(webRequest, CollectionVersions.Collection.EXPENSES)) {
+            return null;
+        }
+        return ResponseEntity.ok(categoryMatrixService.matrix(from, to));
     }
 
     @GetMapping("/daily-limit")
@@ -119,11 +262,14 @@ public class MonthlySummaryController {
     @Parameter(name = "year", description = "Year", example = "2026", required = true)
     @Parameter(name = "month", description = "Month (1-12)", example = "3", required = true)
     @Parameter(name = "date", description = "Day of month (1-31). If not provided, uses today's date", example = "17", required = false)
-    @ApiResponse(responseCode = "200", description = "Daily limit calculated")
-    public ResponseEntity<DailyLimitResponse> getDailyLimit(
+    @ApiResponse(responseCode = "200", description = "Daily limit calculated",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = DailyLimitResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Daily limit unchanged since the ETag in If-None-Match")
+    public ResponseEntity<byte[]> getDailyLimit(
             @RequestParam int year,
             @RequestParam int month,
-            @RequestParam(required = false) Integer date) {
+            @RequestParam(required = false) Integer date,
+            WebRequest webRequest) {
 
         LocalDate requestDate = date != null ?
                 LocalDate.of(year, month, date) :
@@ -137,39 +283,70 @@ public class MonthlySummaryController {
         // Get month data
         YearMonth yearMonth = YearMonth.of(year, month);
         AccountingMonth accountingMonth = new AccountingMonth(yearMonth);
-        
-        MonthlyFunds funds = fundsRepository
-            .findTopByYearAndMonthOrderByIdDesc(year, month)
-            .orElse(null);
-        MonthlySavings savings = savingsRepository.findAll().stream()
-                .findFirst()
-                .orElse(null);
-        List<CyclicExpense> cyclicExpenses = cyclicExpenseRepository.findAll();
-        List<Expense> expenses = expenseRepository.findAll();
-
-        // Calculate available amount
-        MonthlySummary summary = summaryService.calculate(
-                accountingMonth,
-                funds,
-                savings,
-                cyclicExpenses,
-                expenses
-        );
-
-        // Calculate daily limit based on remaining days from the request date
-        BigDecimal dailyLimit = dailyLimitCalculator.calculateFromDate(summary.getAvailable(), requestDate);
-
-        int daysInMonth = accountingMonth.daysInMonth();
-        int dayOfMonth = requestDate.getDayOfMonth();
-        int remainingDays = daysInMonth - dayOfMonth + 1;
-
-        return ResponseEntity.ok(new DailyLimitResponse(
-                requestDate,
-                summary.getAvailable(),
-                remainingDays,
-                daysInMonth,
-                dailyLimit
-        ));
+
+        // The available amount is taken as of today, so today is part of the response's identity
+        LocalDate today = LocalDate.now();
+        String variant = "daily-limit-" + today + "-" + requestDate;
+        if (webRequest.checkNotModified(summaryJsonCache.etag(yearMonth, variant), summaryLastModified(true))) {
+            return null;
+        }
+
+        LocalDate limitDate = requestDate;
+        return json(summaryJsonCache.get(yearMonth, variant, () -> {
+            // Calculate available amount
+            MonthlySummary summary = summaryQueryService.summaryFor(accountingMonth, today);
+
+            // Calculate daily limit based on remaining days from the request date
+            BigDecimal dailyLimit = dailyLimitCalculator.calculateFromDate(summary.getAvailable(), limitDate);
+
+            int daysInMonth = accountingMonth.daysInMonth();
+            int dayOfMonth = limitDate.getDayOfMonth();
+            int remainingDays = daysInMonth - dayOfMonth + 1;
+
+            return new DailyLimitResponse(
+                    limitDate,
+                    summary.getAvailable(),
+                    remainingDays,
+                    daysInMonth,
+                    dailyLimit
+            );
+        }));
+    }
+
+    @GetMapping("/cache-stats")
+    @Operation(summary = "Get summary cache statistics", description = "Hit, miss, eviction and invalidation counters of the summary cache since startup")
+    @ApiResponse(responseCode = "200", description = "Cache statistics retrieved")
+    public ResponseEntity<MonthlySummaryCache.Stats> getCacheStats() {
+        return ResponseEntity.ok(summaryCache.stats());
+    }
+
+    @GetMapping("/coalescing-stats")
+    @Operation(summary = "Get summary coalescing statistics", description = "Summaries calculated and requests that shared a concurrent identical calculation since startup")
+    @ApiResponse(responseCode = "200", description = "Coalescing statistics retrieved")
+    public ResponseEntity<SummarySingleFlight.Stats> getCoalescingStats() {
+        return ResponseEntity.ok(summarySingleFlight.stats());
+    }
+
+    /**
+     * Summaries change with every collection; those calculated as of today also change
+     * when the day does.
+     */
+    private long summaryLastModified(boolean asOfToday) {
+        Instant lastModified = collectionVersions.lastModified();
+        if (asOfToday) {
+            Instant startOfToday = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant();
+            if (startOfToday.isAfter(lastModified)) {
+                lastModified = startOfToday;
+            }
+        }
+        return lastModified.toEpochMilli();
+    }
+
+    private static ResponseEntity<byte[]> json(SummaryJsonCache.Rendered rendered) {
+        return ResponseEntity.ok()
+                .eTag(rendered.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(rendered.json());
     }
 
     /**
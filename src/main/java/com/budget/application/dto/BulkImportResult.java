@@ -0,0 +1,29 @@
+package com.budget.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk expense import. {@code rows} has one entry per input row, in input
+ * order; {@code complete} is false when malformed input ended the import early.
+ */
+public record BulkImportResult(int received, int imported, int rejected, boolean complete, List<RowResult> rows) {
+
+    public enum Status {
+        IMPORTED,
+        REJECTED
+    }
+
+    /**
+     * {@code id} is set for imported rows, {@code error} for rejected ones.
+     */
+    public record RowResult(int index, Status status, Long id, String error) {
+
+        public static RowResult imported(int index, Long id) {
+            return new RowResult(index, Status.IMPORTED, id, null);
+        }
+
+        public static RowResult rejected(int index, String error) {
+            return new RowResult(index, Status.REJECTED, null, error);
+        }
+    }
+}
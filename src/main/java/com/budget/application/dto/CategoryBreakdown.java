@@ -0,0 +1,21 @@
+package com.budget.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Spend per category between {@code from} and {@code to} (inclusive), largest first. When
+ * the breakdown is limited to the top categories, the rest are summed into {@code other};
+ * otherwise {@code other} is null.
+ */
+public record CategoryBreakdown(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal total,
+        List<CategoryTotal> categories,
+        CategoryTotal other) {
+
+    public record CategoryTotal(String category, BigDecimal total, long expenseCount) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.budget.application.dto;
+
+import java.util.List;
+
+/**
+ * Spend per category per month in columnar form: {@code cents[c][m]} is the spend of
+ * {@code categories[c]} in {@code months[m]}, in cents. Months are consecutive
+ * ({@code 2026-01}, {@code 2026-02}, ...); categories are ordered by total spend, largest first.
+ */
+public record CategoryMonthMatrix(List<String> months, List<String> categories, long[][] cents) {
+}
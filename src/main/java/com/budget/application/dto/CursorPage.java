@@ -0,0 +1,23 @@
+package com.budget.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is an opaque token for the
+ * page after this one and is null on the last page; no total count is computed.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor) {
+
+    /**
+     * Builds a page from {@code rows} fetched with {@link PageCursor#fetchLimit(int)}, i.e. at
+     * most one row more than {@code size}; that extra row only signals that a next page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, size, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(content), size, cursorOf.apply(content.get(size - 1)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.budget.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Filters and order of an expense search. Every filter is optional; bounds are inclusive.
+ */
+public record ExpenseSearchCriteria(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        Set<String> categories,
+        SortOrder sort) {
+
+    public static final int MAX_CATEGORIES = 100;
+
+    public enum SortOrder {
+        SPENT_AT_DESC("spentAt", true),
+        SPENT_AT_ASC("spentAt", false),
+        AMOUNT_DESC("amount", true),
+        AMOUNT_ASC("amount", false);
+
+        private final String property;
+        private final boolean descending;
+
+        SortOrder(String property, boolean descending) {
+            this.property = property;
+            this.descending = descending;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public boolean descending() {
+            return descending;
+        }
+
+        /**
+         * Parses {@code property,direction}, e.g. {@code spentAt,desc} or {@code amount,asc}.
+         */
+        public static SortOrder parse(String value) {
+            String[] parts = value.split(",", 2);
+            String direction = parts.length > 1 ? parts[1].trim().toLowerCase(Locale.ROOT) : "asc";
+            for (SortOrder order : values()) {
+                if (order.property.equals(parts[0].trim())
+                        && (order.descending ? "desc" : "asc").equals(direction)) {
+                    return order;
+                }
+            }
+            throw new IllegalArgumentException("Sort must be spentAt or amount, followed by ,asc or ,desc");
+        }
+    }
+
+    public ExpenseSearchCriteria {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("'minAmount' must not be greater than 'maxAmount'");
+        }
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        if (categories.size() > MAX_CATEGORIES) {
+            throw new IllegalArgumentException("At most " + MAX_CATEGORIES + " categories can be searched at once");
+        }
+        if (sort == null) {
+            sort = SortOrder.SPENT_AT_DESC;
+        }
+    }
+}
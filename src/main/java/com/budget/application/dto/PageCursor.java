@@ -0,0 +1,60 @@
+package com.budget.application.dto;
+
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Encodes the sort key of the last row of a page as an opaque, URL-safe continuation token.
+ * Key parts are joined with {@code |}; a part that may itself contain {@code |} (a name)
+ * must come last, since decoding splits into a fixed number of parts.
+ */
+public final class PageCursor {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {
+    }
+
+    public static String encode(Object... keyParts) {
+        StringJoiner joined = new StringJoiner(SEPARATOR);
+        for (Object part : keyParts) {
+            joined.add(String.valueOf(part));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes {@code cursor} into {@code partCount} parts and converts them with
+     * {@code keyParser}; any malformed token fails with {@link IllegalArgumentException}.
+     */
+    public static <K> K decode(String cursor, int partCount, Function<String[], K> keyParser) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|", partCount);
+            if (parts.length != partCount) {
+                throw new IllegalArgumentException("Wrong number of key parts");
+            }
+            return keyParser.apply(parts);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+
+    /**
+     * Validates a requested page size and returns the query limit for it, one row larger so
+     * {@link CursorPage#of} can tell whether another page follows.
+     */
+    public static Limit fetchLimit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return Limit.of(size + 1);
+    }
+}
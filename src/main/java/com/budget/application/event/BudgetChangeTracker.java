@@ -0,0 +1,109 @@
+package com.budget.application.event;
+
+import com.budget.infrastructure.persistence.CyclicExpenseChangedEvent;
+import com.budget.infrastructure.persistence.ExpenseChangedEvent;
+import com.budget.infrastructure.persistence.MonthlyFundsChangedEvent;
+import com.budget.infrastructure.persistence.MonthlySavingsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Collects the months touched by entity writes during a transaction and publishes a
+ * single {@link BudgetDataChangedEvent} after it commits. Rolled back writes are
+ * never published, and a transaction writing many rows yields one event.
+ */
+@Component
+@RequiredArgsConstructor
+public class BudgetChangeTracker {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        record(pending -> pending.expenseMonths.addAll(event.affectedMonths()));
+    }
+
+    @EventListener
+    public void onMonthlyFundsChanged(MonthlyFundsChangedEvent event) {
+        record(pending -> pending.fundsMonths.addAll(event.months()));
+    }
+
+    @EventListener
+    public void onMonthlySavingsChanged(MonthlySavingsChangedEvent event) {
+        record(pending -> pending.savingsChanged = true);
+    }
+
+    @EventListener
+    public void onCyclicExpenseChanged(CyclicExpenseChangedEvent event) {
+        record(pending -> {
+            if (event.cyclicExpenseId() != null) {
+                pending.cyclicExpenseIds.add(event.cyclicExpenseId());
+            }
+            if (event.effectiveFrom() != null) {
+                pending.fixedCostsFrom(event.effectiveFrom());
+            }
+        });
+    }
+
+    private void record(Consumer<PendingChanges> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges immediate = new PendingChanges();
+            change.accept(immediate);
+            eventPublisher.publishEvent(immediate.toEvent());
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        change.accept(pending);
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<YearMonth> expenseMonths = new TreeSet<>();
+        private final Set<YearMonth> fundsMonths = new TreeSet<>();
+        private final Set<UUID> cyclicExpenseIds = new HashSet<>();
+        private YearMonth fixedCostsFrom;
+        private boolean savingsChanged;
+
+        private void fixedCostsFrom(YearMonth month) {
+            if (fixedCostsFrom == null || month.isBefore(fixedCostsFrom)) {
+                fixedCostsFrom = month;
+            }
+        }
+
+        private BudgetDataChangedEvent toEvent() {
+            return new BudgetDataChangedEvent(
+                    Set.copyOf(expenseMonths),
+                    Set.copyOf(fundsMonths),
+                    Set.copyOf(cyclicExpenseIds),
+                    fixedCostsFrom,
+                    savingsChanged);
+        }
+
+        @Override
+        public void afterCommit() {
+            eventPublisher.publishEvent(toEvent());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BudgetChangeTracker.this);
+        }
+    }
+}
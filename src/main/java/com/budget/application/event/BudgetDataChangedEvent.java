@@ -0,0 +1,31 @@
+package com.budget.application.event;
+
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published once per committed transaction that changed budget data, describing which
+ * accounting months' summaries may have changed: months with expense or funds writes,
+ * every month from {@code fixedCostsFrom} onwards when cyclic expenses changed, and
+ * every month when savings changed. {@code cyclicExpenseIds} lists the cyclic expenses
+ * that were written, including deleted ones.
+ */
+public record BudgetDataChangedEvent(
+        Set<YearMonth> expenseMonths,
+        Set<YearMonth> fundsMonths,
+        Set<UUID> cyclicExpenseIds,
+        YearMonth fixedCostsFrom,
+        boolean savingsChanged) {
+
+    public static BudgetDataChangedEvent forExpenseMonths(Set<YearMonth> months) {
+        return new BudgetDataChangedEvent(Set.copyOf(months), Set.of(), Set.of(), null, false);
+    }
+
+    public boolean affects(YearMonth month) {
+        return savingsChanged
+                || expenseMonths.contains(month)
+                || fundsMonths.contains(month)
+                || (fixedCostsFrom != null && !month.isBefore(fixedCostsFrom));
+    }
+}
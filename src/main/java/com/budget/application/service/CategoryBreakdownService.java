@@ -0,0 +1,57 @@
+package com.budget.application.service;
+
+import com.budget.application.dto.CategoryBreakdown;
+import com.budget.application.dto.CategoryBreakdown.CategoryTotal;
+import com.budget.infrastructure.repository.CategorySpend;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spend per category from one grouped aggregate over the expense table; no expense
+ * entities are loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryBreakdownService {
+
+    public static final String OTHER_CATEGORY = "Other";
+
+    private final ExpenseRepository expenseRepository;
+
+    /**
+     * @param top keep only the {@code top} largest categories and sum the rest into
+     *            {@link CategoryBreakdown#other()}; null keeps every category
+     */
+    public CategoryBreakdown breakdown(LocalDate from, LocalDate to, Integer top) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (top != null && top < 1) {
+            throw new IllegalArgumentException("top must be at least 1");
+        }
+
+        List<CategorySpend> rows = expenseRepository.sumAmountByCategoryBetween(from, to);
+        List<CategoryTotal> categories = new ArrayList<>(top == null ? rows.size() : Math.min(top, rows.size()));
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal otherTotal = BigDecimal.ZERO;
+        long otherCount = 0;
+        for (CategorySpend row : rows) {
+            total = total.add(row.getTotal());
+            if (top == null || categories.size() < top) {
+                categories.add(new CategoryTotal(row.getCategory(), row.getTotal(), row.getExpenseCount()));
+            } else {
+                otherTotal = otherTotal.add(row.getTotal());
+                otherCount += row.getExpenseCount();
+            }
+        }
+
+        CategoryTotal other = otherCount > 0 ? new CategoryTotal(OTHER_CATEGORY, otherTotal, otherCount) : null;
+        return new CategoryBreakdown(from, to, total, categories, other);
+    }
+}
@@ -0,0 +1,116 @@
+package com.budget.application.service;
+
+import com.budget.application.dto.CategoryMonthMatrix;
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.infrastructure.repository.CategoryMonthSpend;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the category by month spend matrix from a single grouped aggregate. Whole-year
+ * matrices are cached and dropped when a committed expense write touches their year;
+ * like {@link MonthlySummaryCache}, a matrix computed while a write committed, or inside
+ * a read-write transaction, is returned but not stored.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategoryMatrixService {
+
+    public static final int MAX_MONTHS = 120;
+
+    private final ExpenseRepository expenseRepository;
+
+    private final Map<Integer, CategoryMonthMatrix> years = new HashMap<>();
+    private long generation;
+
+    public CategoryMonthMatrix matrixForYear(int year) {
+        long observedGeneration;
+        synchronized (this) {
+            CategoryMonthMatrix cached = years.get(year);
+            if (cached != null) {
+                return cached;
+            }
+            observedGeneration = generation;
+        }
+
+        CategoryMonthMatrix matrix = matrix(YearMonth.of(year, 1), YearMonth.of(year, 12));
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return matrix;
+        }
+        synchronized (this) {
+            if (generation == observedGeneration) {
+                years.put(year, matrix);
+            }
+        }
+        return matrix;
+    }
+
+    public CategoryMonthMatrix matrix(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        int monthCount = (int) ChronoUnit.MONTHS.between(from, to) + 1;
+        if (monthCount > MAX_MONTHS) {
+            throw new IllegalArgumentException("A matrix covers at most " + MAX_MONTHS + " months");
+        }
+
+        List<CategoryMonthSpend> rows = expenseRepository.sumAmountByCategoryAndMonthBetween(
+                from.atDay(1), to.atEndOfMonth());
+
+        Map<String, long[]> byCategory = new HashMap<>();
+        Map<String, Long> totals = new HashMap<>();
+        for (CategoryMonthSpend row : rows) {
+            int monthIndex = (int) ChronoUnit.MONTHS.between(from, YearMonth.of(row.getSpendYear(), row.getSpendMonth()));
+            long cents = toCents(row.getTotal());
+            byCategory.computeIfAbsent(row.getCategory(), category -> new long[monthCount])[monthIndex] += cents;
+            totals.merge(row.getCategory(), cents, Long::sum);
+        }
+
+        List<String> categories = new ArrayList<>(byCategory.keySet());
+        categories.sort((a, b) -> {
+            int byTotal = Long.compare(totals.get(b), totals.get(a));
+            return byTotal != 0 ? byTotal : a.compareTo(b);
+        });
+        long[][] cents = new long[categories.size()][];
+        for (int i = 0; i < categories.size(); i++) {
+            cents[i] = byCategory.get(categories.get(i));
+        }
+
+        List<String> months = new ArrayList<>(monthCount);
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month.toString());
+        }
+        return new CategoryMonthMatrix(months, categories, cents);
+    }
+
+    @EventListener
+    public synchronized void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        Set<Integer> changedYears = event.expenseMonths().stream()
+                .map(YearMonth::getYear)
+                .collect(Collectors.toSet());
+        if (!changedYears.isEmpty()) {
+            generation++;
+            years.keySet().removeAll(changedYears);
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,137 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Aggregate version and last-modified time of each entity collection, moved once per
+ * committed transaction that wrote to it. List endpoints validate conditional requests
+ * against these without querying the database.
+ *
+ * <p>Versions move after the commit, so a reader that sees an old version may already
+ * get new rows, but never the reverse; a client holding such a response only misses one
+ * 304. Versions restart on every boot, and the ETags carry an instance id so that old
+ * ones stop matching.
+ *
+ * <p>{@code Last-Modified} only has whole seconds, so each write is stamped with a later
+ * whole second than the one before it, rounded up from the commit time. Two writes within
+ * the same second then still carry different times, and a client holding the first never
+ * gets a 304 for the second.
+ */
+@Component
+public class CollectionVersions {
+
+    public enum Collection {
+        EXPENSES, MONTHLY_FUNDS, CYCLIC_EXPENSES, MONTHLY_SAVINGS
+    }
+
+    private final String instanceId = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private final Map<Collection, Stamp> stamps = new EnumMap<>(Collection.class);
+
+    public CollectionVersions() {
+        Instant startedAt = roundUpToSecond(Instant.now());
+        for (Collection collection : Collection.values()) {
+            stamps.put(collection, new Stamp(0, startedAt));
+        }
+    }
+
+    public synchronized Stamp current(Collection collection) {
+        return stamps.get(collection);
+    }
+
+    /**
+     * Validators for a collection's list responses: a weak ETag of the collection version
+     * (the request URL tells the lists apart) and the time of its last write.
+     */
+    public Validators validators(Collection collection) {
+        Stamp stamp = current(collection);
+        return new Validators(
+                "W/\"" + instanceId + "-" + collection.name().toLowerCase(Locale.ROOT) + "-" + stamp.version() + "\"",
+                stamp.modifiedAt().toEpochMilli());
+    }
+
+    /**
+     * Validators for a single row of a collection, from its id and optimistic-locking
+     * version. The last-modified time is the collection's, which is never earlier than
+     * the row's.
+     */
+    public Validators validators(Collection collection, Object id, long rowVersion) {
+        return new Validators(
+                "W/\"" + instanceId + "-" + id + "-" + rowVersion + "\"",
+                current(collection).modifiedAt().toEpochMilli());
+    }
+
+    /**
+     * Checks a conditional request for a collection's list responses. Returns true, with
+     * the 304 already prepared on {@code webRequest}, when the client's copy is current.
+     */
+    public boolean checkNotModified(WebRequest webRequest, Collection collection) {
+        return checkNotModified(webRequest, validators(collection));
+    }
+
+    /**
+     * Checks a conditional request for a single row, as {@link #checkNotModified(WebRequest, Collection)}.
+     */
+    public boolean checkNotModified(WebRequest webRequest, Collection collection, Object id, long rowVersion) {
+        return checkNotModified(webRequest, validators(collection, id, rowVersion));
+    }
+
+    private static boolean checkNotModified(WebRequest webRequest, Validators validators) {
+        return webRequest.checkNotModified(validators.etag(), validators.lastModified());
+    }
+
+    /**
+     * Time of the last committed write to any collection, or startup.
+     */
+    public synchronized Instant lastModified() {
+        return stamps.values().stream().map(Stamp::modifiedAt).max(Instant::compareTo).orElseThrow();
+    }
+
+    @EventListener
+    public synchronized void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        Instant now = Instant.now();
+        if (!event.expenseMonths().isEmpty()) {
+            bump(Collection.EXPENSES, now);
+        }
+        if (!event.fundsMonths().isEmpty()) {
+            bump(Collection.MONTHLY_FUNDS, now);
+        }
+        if (!event.cyclicExpenseIds().isEmpty() || event.fixedCostsFrom() != null) {
+            bump(Collection.CYCLIC_EXPENSES, now);
+        }
+        if (event.savingsChanged()) {
+            bump(Collection.MONTHLY_SAVINGS, now);
+        }
+    }
+
+    private void bump(Collection collection, Instant now) {
+        stamps.compute(collection, (key, stamp) -> {
+            Instant modifiedAt = roundUpToSecond(now);
+            if (!modifiedAt.isAfter(stamp.modifiedAt())) {
+                modifiedAt = stamp.modifiedAt().plusSeconds(1);
+            }
+            return new Stamp(stamp.version() + 1, modifiedAt);
+        });
+    }
+
+    private static Instant roundUpToSecond(Instant instant) {
+        return instant.getNano() == 0 ? instant : Instant.ofEpochSecond(instant.getEpochSecond() + 1);
+    }
+
+    public record Stamp(long version, Instant modifiedAt) {
+    }
+
+    /**
+     * ETag and Last-Modified value, in epoch milliseconds, of a response.
+     */
+    public record Validators(String etag, long lastModified) {
+    }
+}
@@ -1,14 +1,18 @@
 package com.budget.application.service;
 
 import com.budget.application.dto.CreateCyclicExpenseRequest;
+import com.budget.application.dto.CursorPage;
+import com.budget.application.dto.PageCursor;
 import com.budget.application.dto.UpdateCyclicExpenseRequest;
 import com.budget.domain.CyclicExpense;
 import com.budget.domain.CyclicExpenseRate;
 import com.budget.infrastructure.repository.CyclicExpenseRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
@@ -45,8 +49,9 @@ public class CyclicExpenseService {
         return repository.save(cyclicExpense);
     }
 
+    @Transactional
     public CyclicExpense addNewRate(UUID expenseId, CyclicExpenseRate newRate) {
-        CyclicExpense expense = repository.findById(expenseId)
+        CyclicExpense expense = repository.findForRateChangeById(expenseId)
                 .orElseThrow(() -> new IllegalArgumentException("Cyclic expense not found"));
         
         // Deactivate all existing rates
@@ -64,6 +69,13 @@ public class CyclicExpenseService {
         return repository.findById(id);
     }
 
+    /**
+     * Version of a cyclic expense, without loading it or its rates.
+     */
+    public Optional<Long> findVersion(UUID id) {
+        return repository.findVersionById(id);
+    }
+
     public List<CyclicExpense> findAll() {
         return repository.findAll();
     }
@@ -72,6 +84,25 @@ public class CyclicExpenseService {
         return repository.findAll(pageable);
     }
 
+    /**
+     * Keyset page of cyclic expenses ordered by name, continuing after {@code cursor} when given.
+     */
+    public CursorPage<CyclicExpense> findPage(String cursor, int size) {
+        Limit limit = PageCursor.fetchLimit(size);
+        List<CyclicExpense> rows;
+        if (cursor == null) {
+            rows = repository.findAllByOrderByNameAscIdAsc(limit);
+        } else {
+            // The name is the last key part because it may contain the separator
+            CyclicExpense after = PageCursor.decode(cursor, 2, key -> CyclicExpense.builder()
+                    .id(UUID.fromString(key[0]))
+                    .name(key[1])
+                    .build());
+            rows = repository.findPageAfter(after.getName(), after.getId(), limit);
+        }
+        return CursorPage.of(rows, size, last -> PageCursor.encode(last.getId(), last.getName()));
+    }
+
     public List<CyclicExpense> findActiveExpenses() {
         return repository.findByActive(true);
     }
@@ -80,8 +111,10 @@ public class CyclicExpenseService {
         repository.deleteById(id);
     }
 
+    @Transactional
     public CyclicExpense update(UUID id, UpdateCyclicExpenseRequest request) {
-        CyclicExpense expense = repository.findById(id)
+        boolean addsRate = request.getAmount() != null && request.getValidFrom() != null;
+        CyclicExpense expense = (addsRate ? repository.findForRateChangeById(id) : repository.findById(id))
                 .orElseThrow(() -> new IllegalArgumentException("Cyclic expense not found"));
 
         if (request.getName() != null) {
@@ -97,7 +130,7 @@ public class CyclicExpenseService {
             expense.setActive(request.getActive());
         }
 
-        if (request.getAmount() != null && request.getValidFrom() != null) {
+        if (addsRate) {
             expense.getRates().forEach(rate -> rate.setActive(false));
 
             CyclicExpenseRate newRate = CyclicExpenseRate.builder()
@@ -37,17 +37,22 @@ public class DailyLimitCalculator {
             return BigDecimal.ZERO;
         }
 
-        YearMonth yearMonth = YearMonth.from(date);
-        AccountingMonth month = new AccountingMonth(yearMonth);
-        
-        int daysInMonth = month.daysInMonth();
-        int dayOfMonth = date.getDayOfMonth();
-        int remainingDays = daysInMonth - dayOfMonth + 1; // +1 to include current day
-
         return available.divide(
-                BigDecimal.valueOf(remainingDays),
+                BigDecimal.valueOf(remainingDays(date)),
                 2,
                 RoundingMode.HALF_DOWN
         );
     }
+
+    /**
+     * Days left in the month of {@code date}, including that day.
+     */
+    public int remainingDays(LocalDate date) {
+        YearMonth yearMonth = YearMonth.from(date);
+        AccountingMonth month = new AccountingMonth(yearMonth);
+
+        int daysInMonth = month.daysInMonth();
+        int dayOfMonth = date.getDayOfMonth();
+        return daysInMonth - dayOfMonth + 1; // +1 to include current day
+    }
 }
@@ -0,0 +1,98 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.infrastructure.repository.DailySpend;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory prefix sums of daily spend per month. Element {@code d} of a month's array
+ * holds the spend from day 1 through day {@code d}, so any "spent up to day d" or
+ * day-range query is one or two array lookups. Months are loaded on first use with
+ * a single grouped query and dropped after every committed write that touches them.
+ *
+ * <p>Loads run outside the map, so no lock is held across the query. As in
+ * {@link MonthlySummaryCache}, a month loaded while a write committed, or inside a
+ * read-write transaction, is used once but not stored.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailySpendIndex {
+
+    private final ExpenseRepository expenseRepository;
+    private final ConcurrentMap<YearMonth, BigDecimal[]> cumulativeByMonth = new ConcurrentHashMap<>();
+    private long generation;
+
+    /**
+     * Spend from the first day of the month through {@code dayOfMonth} inclusive.
+     */
+    public BigDecimal spentThrough(YearMonth month, int dayOfMonth) {
+        return cumulative(month)[dayOfMonth];
+    }
+
+    /**
+     * Spend from {@code fromDay} through {@code toDay} inclusive.
+     */
+    public BigDecimal spentBetween(YearMonth month, int fromDay, int toDay) {
+        BigDecimal[] cumulative = cumulative(month);
+        return cumulative[toDay].subtract(cumulative[fromDay - 1]);
+    }
+
+    @EventListener
+    @Order(0)
+    public synchronized void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        // Months are reloaded from committed data on next use rather than patched with
+        // deltas; the generation keeps a load that overlapped this commit from being stored
+        generation++;
+        event.expenseMonths().forEach(cumulativeByMonth::remove);
+    }
+
+    private BigDecimal[] cumulative(YearMonth month) {
+        BigDecimal[] cached = cumulativeByMonth.get(month);
+        if (cached != null) {
+            return cached;
+        }
+        long observedGeneration;
+        synchronized (this) {
+            observedGeneration = generation;
+        }
+
+        BigDecimal[] loaded = load(month);
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (generation != observedGeneration) {
+                return loaded;
+            }
+            BigDecimal[] published = cumulativeByMonth.putIfAbsent(month, loaded);
+            return published != null ? published : loaded;
+        }
+    }
+
+    private BigDecimal[] load(YearMonth month) {
+        int days = month.lengthOfMonth();
+        BigDecimal[] daily = new BigDecimal[days + 1];
+        for (DailySpend day : expenseRepository.sumAmountByDayBetween(month.atDay(1), month.atEndOfMonth())) {
+            daily[day.getSpentAt().getDayOfMonth()] = day.getTotal();
+        }
+
+        BigDecimal[] cumulative = new BigDecimal[days + 1];
+        cumulative[0] = BigDecimal.ZERO;
+        for (int day = 1; day <= days; day++) {
+            cumulative[day] = daily[day] != null ? cumulative[day - 1].add(daily[day]) : cumulative[day - 1];
+        }
+        return cumulative;
+    }
+}
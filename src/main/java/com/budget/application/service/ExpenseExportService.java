@@ -0,0 +1,156 @@
+package com.budget.application.service;
+
+import com.budget.domain.Expense;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams expenses in a date range to an output stream as CSV or NDJSON. Rows are read
+ * through a forward-only cursor in a read-only transaction and detached as soon as they
+ * are written, so memory use does not grow with the size of the export.
+ */
+@Service
+public class ExpenseExportService {
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Export format must be csv or ndjson");
+            }
+        }
+    }
+
+    private static final String CSV_HEADER = "id,amount,category,spent_at";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ExpenseExportService(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${budget.export.fetch-size:500}") int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Export fetch size must be at least 1");
+        }
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every expense spent between {@code from} and {@code to} (inclusive), ordered by
+     * date and id, to {@code output}. The stream is flushed but not closed.
+     */
+    public void export(LocalDate from, LocalDate to, Format format, OutputStream output) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Export range start must not be after its end");
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Expense> rows = entityManager.createQuery(
+                            "SELECT e FROM Expense e WHERE e.spentAt BETWEEN :from AND :to ORDER BY e.spentAt, e.id",
+                            Expense.class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()) {
+                switch (format) {
+                    case CSV -> writeCsv(rows.iterator(), output);
+                    case NDJSON -> writeNdjson(rows.iterator(), output);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsv(Iterator<Expense> rows, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            Expense expense = rows.next();
+            writer.write(String.valueOf(expense.getId()));
+            writer.write(',');
+            writer.write(expense.getAmount().toPlainString());
+            writer.write(',');
+            writer.write(csvField(expense.getCategory()));
+            writer.write(',');
+            writer.write(expense.getSpentAt().toString());
+            writer.write('\n');
+            entityManager.detach(expense);
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<Expense> rows, OutputStream output) throws IOException {
+        // The sequence writer owns a generator over the output; flush it rather than closing
+        // it so the caller keeps control of the stream
+        SequenceWriter writer = objectMapper.writerFor(Expense.class)
+                .withRootValueSeparator("\n")
+                .writeValues(output);
+        boolean any = false;
+        while (rows.hasNext()) {
+            Expense expense = rows.next();
+            writer.write(expense);
+            entityManager.detach(expense);
+            any = true;
+        }
+        writer.flush();
+        if (any) {
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,136 @@
+package com.budget.application.service;
+
+import com.budget.application.dto.BulkImportResult;
+import com.budget.application.dto.BulkImportResult.RowResult;
+import com.budget.domain.Expense;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports expenses from a JSON array or NDJSON stream without holding the whole input
+ * in memory. Rows are validated one by one and valid rows are persisted in chunks, each
+ * in its own transaction and flushed as JDBC batches. A chunk that fails to persist is
+ * rolled back and reported row by row; later chunks are still imported.
+ */
+@Service
+public class ExpenseImportService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ExpenseImportService(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${budget.import.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be at least 1");
+        }
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads a JSON array of expenses, or whitespace-separated expense objects (NDJSON),
+     * from {@code input}.
+     */
+    public BulkImportResult importExpenses(InputStream input) {
+        List<RowResult> results = new ArrayList<>();
+        List<Expense> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        boolean complete = true;
+        int index = 0;
+
+        try (MappingIterator<Expense> rows = objectMapper.readerFor(Expense.class).readValues(input)) {
+            while (true) {
+                Expense expense;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    expense = rows.nextValue();
+                } catch (JacksonException e) {
+                    // The parser cannot reliably resume after malformed input
+                    results.add(RowResult.rejected(index, "Malformed input: " + e.getOriginalMessage()));
+                    complete = false;
+                    break;
+                }
+
+                String error = validate(expense);
+                if (error != null) {
+                    results.add(RowResult.rejected(index, error));
+                } else {
+                    expense.setId(null);
+                    chunk.add(expense);
+                    chunkIndexes.add(index);
+                    if (chunk.size() == chunkSize) {
+                        persistChunk(chunk, chunkIndexes, results);
+                    }
+                }
+                index++;
+            }
+        }
+        persistChunk(chunk, chunkIndexes, results);
+
+        results.sort(Comparator.comparingInt(RowResult::index));
+        int imported = (int) results.stream().filter(row -> row.status() == BulkImportResult.Status.IMPORTED).count();
+        return new BulkImportResult(results.size(), imported, results.size() - imported, complete, results);
+    }
+
+    private String validate(Expense expense) {
+        if (expense == null) {
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<Expense>> violations = validator.validate(expense);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void persistChunk(List<Expense> chunk, List<Integer> chunkIndexes, List<RowResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(RowResult.imported(chunkIndexes.get(i), chunk.get(i).getId()));
+            }
+        } catch (RuntimeException e) {
+            String error = "Failed to persist: " + e.getMessage();
+            chunkIndexes.forEach(rowIndex -> results.add(RowResult.rejected(rowIndex, error)));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+}
@@ -0,0 +1,108 @@
+package com.budget.application.service;
+
+import com.budget.application.dto.CursorPage;
+import com.budget.application.dto.ExpenseSearchCriteria;
+import com.budget.application.dto.ExpenseSearchCriteria.SortOrder;
+import com.budget.application.dto.PageCursor;
+import com.budget.domain.Expense;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Searches expenses by any combination of date range, amount range and categories, with
+ * keyset paging on the chosen sort key and id. Only the filters that are set become
+ * predicates, so each query stays a plain range or IN lookup on the expense indexes.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExpenseSearchService {
+
+    private final EntityManager entityManager;
+
+    public CursorPage<Expense> search(ExpenseSearchCriteria criteria, String cursor, int size) {
+        int limit = PageCursor.fetchLimit(size).max();
+        SortOrder sort = criteria.sort();
+        boolean byAmount = "amount".equals(sort.property());
+        SearchPosition after = cursor == null ? null : PageCursor.decode(cursor, 3, key -> {
+            if (!sort.name().equals(key[0])) {
+                throw new IllegalArgumentException("Cursor belongs to a different sort order");
+            }
+            Object lastKey = byAmount ? new BigDecimal(key[1]) : LocalDate.parse(key[1]);
+            return new SearchPosition(lastKey, Long.parseLong(key[2]));
+        });
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Expense> query = cb.createQuery(Expense.class);
+        Root<Expense> expense = query.from(Expense.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Path<LocalDate> spentAt = expense.get("spentAt");
+        Path<BigDecimal> amount = expense.get("amount");
+        Path<Long> id = expense.get("id");
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(spentAt, criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThanOrEqualTo(spentAt, criteria.to()));
+        }
+        if (criteria.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount, criteria.minAmount()));
+        }
+        if (criteria.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount, criteria.maxAmount()));
+        }
+        if (!criteria.categories().isEmpty()) {
+            predicates.add(expense.get("category").in(criteria.categories()));
+        }
+        if (after != null) {
+            predicates.add(byAmount
+                    ? seek(cb, amount, (BigDecimal) after.key(), id, after.id(), sort.descending())
+                    : seek(cb, spentAt, (LocalDate) after.key(), id, after.id(), sort.descending()));
+        }
+
+        Path<?> sortKey = expense.get(sort.property());
+        query.select(expense)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(sort.descending()
+                        ? List.of(cb.desc(sortKey), cb.desc(id))
+                        : List.of(cb.asc(sortKey), cb.asc(id)));
+
+        List<Expense> rows = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        return CursorPage.of(rows, size, last -> PageCursor.encode(
+                sort.name(),
+                byAmount ? last.getAmount().toPlainString() : last.getSpentAt(),
+                last.getId()));
+    }
+
+    /**
+     * Rows after {@code (lastKey, lastId)} in the given direction. The leading range on the
+     * sort key keeps the seek usable as an index range.
+     */
+    private static <Y extends Comparable<? super Y>> Predicate seek(
+            CriteriaBuilder cb, Path<Y> key, Y lastKey, Path<Long> id, long lastId, boolean descending) {
+        if (descending) {
+            return cb.and(
+                    cb.lessThanOrEqualTo(key, lastKey),
+                    cb.or(cb.lessThan(key, lastKey), cb.lessThan(id, lastId)));
+        }
+        return cb.and(
+                cb.greaterThanOrEqualTo(key, lastKey),
+                cb.or(cb.greaterThan(key, lastKey), cb.greaterThan(id, lastId)));
+    }
+
+    private record SearchPosition(Object key, long id) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.CyclicExpenseSchedule;
+import com.budget.infrastructure.repository.CyclicExpenseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-month fixed-cost totals over a rolling horizon around the current month, built by
+ * expanding every active cyclic expense once. A write to a cyclic expense re-expands only
+ * that expense and applies the difference to the totals. The horizon is rebuilt around the
+ * new month the first time it is used after the month changes. Months outside the horizon
+ * are calculated from the expenses directly.
+ */
+@Component
+public class FixedCostCalendar {
+
+    private final CyclicExpenseRepository cyclicExpenseRepository;
+    private final CyclicExpenseCalculator cyclicExpenseCalculator;
+    private final int yearsBack;
+    private final int yearsForward;
+    private final Clock clock;
+
+    private volatile Calendar calendar;
+
+    @Autowired
+    public FixedCostCalendar(
+            CyclicExpenseRepository cyclicExpenseRepository,
+            CyclicExpenseCalculator cyclicExpenseCalculator,
+            @Value("${budget.fixed-cost-calendar.years-back:5}") int yearsBack,
+            @Value("${budget.fixed-cost-calendar.years-forward:5}") int yearsForward) {
+        this(cyclicExpenseRepository, cyclicExpenseCalculator, yearsBack, yearsForward, Clock.systemDefaultZone());
+    }
+
+    FixedCostCalendar(
+            CyclicExpenseRepository cyclicExpenseRepository,
+            CyclicExpenseCalculator cyclicExpenseCalculator,
+            int yearsBack,
+            int yearsForward,
+            Clock clock) {
+        if (yearsBack < 0 || yearsForward < 0) {
+            throw new IllegalArgumentException("Fixed cost calendar horizon must not be negative");
+        }
+        this.cyclicExpenseRepository = cyclicExpenseRepository;
+        this.cyclicExpenseCalculator = cyclicExpenseCalculator;
+        this.yearsBack = yearsBack;
+        this.yearsForward = yearsForward;
+        this.clock = clock;
+    }
+
+    public BigDecimal totalFor(YearMonth month) {
+        Calendar current = calendar();
+        int index = CyclicExpenseSchedule.epochMonth(month) - current.firstEpochMonth();
+        if (index >= 0 && index < current.totals().length) {
+            return current.totals()[index];
+        }
+        return calculate(cyclicExpenseRepository.findByActive(true), month);
+    }
+
+    @EventListener
+    @Order(0)
+    public synchronized void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        Calendar current = this.calendar;
+        if (current == null || event.cyclicExpenseIds().isEmpty()) {
+            return;
+        }
+
+        BigDecimal[] totals = current.totals().clone();
+        Map<UUID, BigDecimal[]> byExpense = new HashMap<>(current.byExpense());
+        for (UUID id : event.cyclicExpenseIds()) {
+            BigDecimal[] previous = byExpense.remove(id);
+            if (previous != null) {
+                subtract(totals, previous);
+            }
+            CyclicExpense expense = cyclicExpenseRepository.findById(id).orElse(null);
+            if (expense != null && expense.isActive()) {
+                BigDecimal[] expanded = expand(expense, current.firstEpochMonth(), totals.length);
+                add(totals, expanded);
+                byExpense.put(id, expanded);
+            }
+        }
+        this.calendar = new Calendar(current.anchor(), current.firstEpochMonth(), totals, Map.copyOf(byExpense));
+    }
+
+    private Calendar calendar() {
+        YearMonth now = YearMonth.now(clock);
+        Calendar current = this.calendar;
+        if (current == null || !current.anchor().equals(now)) {
+            synchronized (this) {
+                current = this.calendar;
+                if (current == null || !current.anchor().equals(now)) {
+                    current = build(now);
+                    this.calendar = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Calendar build(YearMonth now) {
+        int firstEpochMonth = CyclicExpenseSchedule.epochMonth(now.minusYears(yearsBack));
+        int length = CyclicExpenseSchedule.epochMonth(now.plusYears(yearsForward)) - firstEpochMonth + 1;
+
+        BigDecimal[] totals = new BigDecimal[length];
+        Arrays.fill(totals, BigDecimal.ZERO);
+        Map<UUID, BigDecimal[]> byExpense = new HashMap<>();
+        for (CyclicExpense expense : cyclicExpenseRepository.findByActive(true)) {
+            BigDecimal[] expanded = expand(expense, firstEpochMonth, length);
+            add(totals, expanded);
+            byExpense.put(expense.getId(), expanded);
+        }
+        return new Calendar(now, firstEpochMonth, totals, Map.copyOf(byExpense));
+    }
+
+    private BigDecimal[] expand(CyclicExpense expense, int firstEpochMonth, int length) {
+        BigDecimal[] amounts = new BigDecimal[length];
+        for (int i = 0; i < length; i++) {
+            AccountingMonth month = new AccountingMonth(monthOf(firstEpochMonth + i));
+            amounts[i] = cyclicExpenseCalculator.applies(expense, month)
+                    ? cyclicExpenseCalculator.amountForMonth(expense, month)
+                    : BigDecimal.ZERO;
+        }
+        return amounts;
+    }
+
+    private BigDecimal calculate(List<CyclicExpense> expenses, YearMonth month) {
+        AccountingMonth accountingMonth = new AccountingMonth(month);
+        return expenses.stream()
+                .filter(expense -> cyclicExpenseCalculator.applies(expense, accountingMonth))
+                .map(expense -> cyclicExpenseCalculator.amountForMonth(expense, accountingMonth))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static void add(BigDecimal[] totals, BigDecimal[] amounts) {
+        for (int i = 0; i < totals.length; i++) {
+            if (amounts[i].signum() != 0) {
+                totals[i] = totals[i].add(amounts[i]);
+            }
+        }
+    }
+
+    private static void subtract(BigDecimal[] totals, BigDecimal[] amounts) {
+        for (int i = 0; i < totals.length; i++) {
+            if (amounts[i].signum() != 0) {
+                BigDecimal remaining = totals[i].subtract(amounts[i]);
+                // Keep months without fixed costs at plain ZERO, as a fresh build would
+                totals[i] = remaining.signum() == 0 ? BigDecimal.ZERO : remaining;
+            }
+        }
+    }
+
+    private static YearMonth monthOf(int epochMonth) {
+        return YearMonth.of(Math.floorDiv(epochMonth, 12), Math.floorMod(epochMonth, 12) + 1);
+    }
+
+    // anchor is the current month the horizon was built around
+    private record Calendar(YearMonth anchor, int firstEpochMonth, BigDecimal[] totals, Map<UUID, BigDecimal[]> byExpense) {
+    }
+}
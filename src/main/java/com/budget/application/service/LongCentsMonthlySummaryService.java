@@ -0,0 +1,121 @@
+package com.budget.application.service;
+
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.MonthlyFunds;
+import com.budget.domain.MonthlySavings;
+import com.budget.domain.MonthlySummary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Summary engine that does the arithmetic on {@code long} unscaled values at a common
+ * scale and only builds {@link BigDecimal}s for the returned summary. Results are
+ * identical to {@link MonthlySummaryServiceImpl}, including scales and HALF_DOWN rounding
+ * of the daily limit; inputs that do not fit in a {@code long} or any overflow fall back
+ * to the {@link BigDecimal} calculation. Enabled with {@code budget.summary.engine=long-cents}.
+ */
+@Service
+@ConditionalOnProperty(name = "budget.summary.engine", havingValue = "long-cents")
+public class LongCentsMonthlySummaryService extends MonthlySummaryServiceImpl {
+
+    private static final int DAILY_LIMIT_SCALE = 2;
+    private static final int MAX_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final DailyLimitCalculator dailyLimitCalculator;
+
+    public LongCentsMonthlySummaryService(
+            CyclicExpenseCalculator cyclicExpenseCalculator,
+            DailyLimitCalculator dailyLimitCalculator) {
+        super(cyclicExpenseCalculator, dailyLimitCalculator);
+        this.dailyLimitCalculator = dailyLimitCalculator;
+    }
+
+    @Override
+    public MonthlySummary calculate(
+            AccountingMonth month,
+            MonthlyFunds funds,
+            MonthlySavings savings,
+            BigDecimal fixedCosts,
+            BigDecimal spent,
+            LocalDate requestDate) {
+
+        BigDecimal fundsAmount = funds != null ? funds.getAmount() : BigDecimal.ZERO;
+        BigDecimal savingsAmount = savings != null ? savings.getAmount() : BigDecimal.ZERO;
+        LocalDate dateForCalculation = requestDate != null ? requestDate : LocalDate.now();
+
+        // BigDecimal subtraction yields the largest input scale, so work at that scale
+        int scale = Math.max(Math.max(fundsAmount.scale(), savingsAmount.scale()),
+                Math.max(fixedCosts.scale(), spent.scale()));
+        int minScale = Math.min(Math.min(fundsAmount.scale(), savingsAmount.scale()),
+                Math.min(fixedCosts.scale(), spent.scale()));
+        if (minScale < 0 || scale > MAX_SCALE) {
+            return super.calculate(month, funds, savings, fixedCosts, spent, requestDate);
+        }
+
+        try {
+            long available = Math.subtractExact(
+                    Math.subtractExact(
+                            Math.subtractExact(unscaled(fundsAmount, scale), unscaled(savingsAmount, scale)),
+                            unscaled(fixedCosts, scale)),
+                    unscaled(spent, scale));
+
+            BigDecimal dailyLimit = available <= 0
+                    ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(
+                            divideHalfDown(available, scale, dailyLimitCalculator.remainingDays(dateForCalculation)),
+                            DAILY_LIMIT_SCALE);
+
+            return MonthlySummary.builder()
+                    .date(dateForCalculation)
+                    .funds(fundsAmount)
+                    .savings(savingsAmount)
+                    .fixedCosts(fixedCosts)
+                    .spent(spent)
+                    .available(BigDecimal.valueOf(available, scale))
+                    .dailyLimit(dailyLimit)
+                    .build();
+        } catch (ArithmeticException overflow) {
+            return super.calculate(month, funds, savings, fixedCosts, spent, requestDate);
+        }
+    }
+
+    /**
+     * Unscaled value of {@code amount} at {@code scale}, which is at least its own scale.
+     * Throws {@link ArithmeticException} when it does not fit in a long.
+     */
+    private static long unscaled(BigDecimal amount, int scale) {
+        long unscaled = amount.unscaledValue().longValueExact();
+        return Math.multiplyExact(unscaled, POWERS_OF_TEN[scale - amount.scale()]);
+    }
+
+    /**
+     * Positive {@code unscaled / 10^scale / days} as an unscaled value at scale 2,
+     * rounded HALF_DOWN like {@link DailyLimitCalculator#calculateFromDate}.
+     */
+    private static long divideHalfDown(long unscaled, int scale, int days) {
+        long numerator;
+        long denominator;
+        if (scale <= DAILY_LIMIT_SCALE) {
+            numerator = Math.multiplyExact(unscaled, POWERS_OF_TEN[DAILY_LIMIT_SCALE - scale]);
+            denominator = days;
+        } else {
+            numerator = unscaled;
+            denominator = Math.multiplyExact((long) days, POWERS_OF_TEN[scale - DAILY_LIMIT_SCALE]);
+        }
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        // HALF_DOWN: round up only when the remainder is strictly more than half
+        return remainder > denominator - remainder ? quotient + 1 : quotient;
+    }
+}
@@ -1,8 +1,12 @@
 package com.budget.application.service;
 
+import com.budget.application.dto.CursorPage;
+import com.budget.application.dto.PageCursor;
 import com.budget.domain.MonthlyFunds;
 import com.budget.infrastructure.repository.MonthlyFundsRepository;
+import com.budget.infrastructure.repository.RowVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -39,6 +43,13 @@ public class MonthlyFundsService {
         return repository.findTopByYearAndMonthOrderByIdDesc(year, month);
     }
 
+    /**
+     * Id and version of the funds for a month, without loading the entry.
+     */
+    public Optional<RowVersion> findVersion(int year, int month) {
+        return repository.findVersionByYearAndMonth(year, month);
+    }
+
     public List<MonthlyFunds> findByYear(int year) {
         return repository.findByYear(year);
     }
@@ -51,6 +62,25 @@ public class MonthlyFundsService {
         return repository.findAll(pageable);
     }
 
+    /**
+     * Keyset page of funds, latest month first, continuing after {@code cursor} when given.
+     */
+    public CursorPage<MonthlyFunds> findPage(String cursor, int size) {
+        Limit limit = PageCursor.fetchLimit(size);
+        List<MonthlyFunds> rows;
+        if (cursor == null) {
+            rows = repository.findAllByOrderByYearDescMonthDescIdDesc(limit);
+        } else {
+            MonthlyFunds after = PageCursor.decode(cursor, 3, key -> MonthlyFunds.builder()
+                    .year(Integer.parseInt(key[0]))
+                    .month(Integer.parseInt(key[1]))
+                    .id(Long.parseLong(key[2]))
+                    .build());
+            rows = repository.findPageAfter(after.getYear(), after.getMonth(), after.getId(), limit);
+        }
+        return CursorPage.of(rows, size, last -> PageCursor.encode(last.getYear(), last.getMonth(), last.getId()));
+    }
+
     public void delete(Long id) {
         repository.deleteById(id);
     }
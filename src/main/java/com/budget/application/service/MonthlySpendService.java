@@ -0,0 +1,165 @@
+package com.budget.application.service;
+
+import com.budget.domain.Expense;
+import com.budget.infrastructure.persistence.ExpenseChangedEvent;
+import com.budget.infrastructure.repository.MonthlySpendRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Maintains the per-month spend rollup ({@code monthly_spend}) and serves totals from it.
+ */
+@Service
+@RequiredArgsConstructor
+public class MonthlySpendService {
+
+    private static final String UPDATE_SQL = "UPDATE monthly_spend SET total = total + ?, expense_count = expense_count + ? "
+            + "WHERE year_number = ? AND month_number = ?";
+
+    private final MonthlySpendRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public Optional<BigDecimal> totalFor(YearMonth month) {
+        return repository.findTotalByYearAndMonth(month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Records an expense write against the rollup. Inside a transaction the changes are
+     * summed per month and written just before commit, as one JDBC batch, so a transaction
+     * writing many expenses costs one round trip rather than one per row. Plain JDBC is
+     * used because the persistence context must not be modified while it flushes.
+     *
+     * <p>The batch runs in Hibernate's before-completion phase rather than in a Spring
+     * {@code beforeCommit} callback: Hibernate only flushes after the latter, so the writes
+     * of a transaction that never flushed earlier would raise their events too late.
+     */
+    @EventListener
+    public void onExpenseChanged(ExpenseChangedEvent event) {
+        Expense.PersistedState previous = event.previous();
+        Expense.PersistedState current = event.current();
+
+        if (previous != null && current != null
+                && previous.month().equals(current.month())) {
+            BigDecimal delta = current.amount().subtract(previous.amount());
+            if (delta.signum() != 0) {
+                record(current.month(), new Delta(delta, 0));
+            }
+            return;
+        }
+        if (previous != null) {
+            record(previous.month(), new Delta(previous.amount().negate(), -1));
+        }
+        if (current != null) {
+            record(current.month(), new Delta(current.amount(), 1));
+        }
+    }
+
+    private void record(YearMonth month, Delta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            apply(Map.of(month, delta));
+            return;
+        }
+
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+            entityManager.unwrap(SharedSessionContractImplementor.class)
+                    .getTransactionCompletionCallbacks()
+                    .registerCallback(pending);
+        }
+        pending.add(month, delta);
+    }
+
+    /**
+     * Adds the deltas to their months' rollup rows in one batch, then creates the rows of
+     * months written for the first time.
+     */
+    private void apply(Map<YearMonth, Delta> deltas) {
+        List<YearMonth> months = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        deltas.forEach((month, delta) -> {
+            if (!delta.isEmpty()) {
+                months.add(month);
+                updates.add(new Object[] {delta.amount(), delta.count(), month.getYear(), month.getMonthValue()});
+            }
+        });
+        if (months.isEmpty()) {
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                insert(months.get(i), deltas.get(months.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Creates the month's rollup row. When a concurrent transaction inserts the row first,
+     * the insert fails on the primary key and the update is retried against its row.
+     */
+    private void insert(YearMonth month, Delta delta) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO monthly_spend (year_number, month_number, total, expense_count) VALUES (?, ?, ?, ?)",
+                    month.getYear(), month.getMonthValue(), delta.amount(), delta.count());
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_SQL, delta.amount(), delta.count(), month.getYear(), month.getMonthValue());
+        }
+    }
+
+    private record Delta(BigDecimal amount, long count) {
+
+        private Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+
+        private boolean isEmpty() {
+            return amount.signum() == 0 && count == 0;
+        }
+    }
+
+    private final class PendingDeltas
+            implements TransactionSynchronization, TransactionCompletionCallbacks.BeforeCompletionCallback {
+
+        private final Map<YearMonth, Delta> deltas = new TreeMap<>();
+
+        private void add(YearMonth month, Delta delta) {
+            deltas.merge(month, delta, Delta::plus);
+        }
+
+        /**
+         * Runs after the commit flush, still inside the transaction.
+         */
+        @Override
+        public void doBeforeTransactionCompletion(SharedSessionContractImplementor session) {
+            apply(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MonthlySpendService.this);
+        }
+    }
+}
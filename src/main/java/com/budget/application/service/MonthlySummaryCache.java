@@ -0,0 +1,136 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.MonthlySummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of calculated summaries keyed by accounting month and request date.
+ * Entries are evicted per month when a committed write affects that month. A summary
+ * computed while a write committed is returned but not stored, so a stale result can
+ * never outlive its invalidation. Neither is one computed inside a read-write transaction,
+ * which may see writes that are later rolled back.
+ *
+ * <p>The cache also keeps a data version per month: the number of the last committed
+ * change that affected it, or 0 if none has since startup. Versions move in the same
+ * step that evicts the month, so a caller that reads a version and then a summary never
+ * gets data older than that version.
+ */
+@Component
+public class MonthlySummaryCache {
+
+    private final int maxEntries;
+    private final Map<Key, MonthlySummary> entries;
+
+    private long generation;
+    private long lastChange;
+    private long allMonthsChangedAt;
+    private final Map<YearMonth, Long> monthChangedAt = new HashMap<>();
+    // Changes affecting every month from the key onwards; values rise with the keys
+    private final NavigableMap<YearMonth, Long> changedFrom = new TreeMap<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public MonthlySummaryCache(@Value("${budget.summary-cache.max-entries:1024}") int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Summary cache size must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, MonthlySummary> eldest) {
+                if (size() > MonthlySummaryCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public MonthlySummary get(YearMonth month, LocalDate requestDate, Supplier<MonthlySummary> loader) {
+        Key key = new Key(month, requestDate);
+        long observedGeneration;
+        synchronized (this) {
+            MonthlySummary cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            observedGeneration = generation;
+        }
+
+        MonthlySummary summary = loader.get();
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return summary;
+        }
+        synchronized (this) {
+            if (generation == observedGeneration) {
+                entries.put(key, summary);
+            }
+        }
+        return summary;
+    }
+
+    // Runs after the indexes summaries are calculated from have caught up with the write
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public synchronized void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        generation++;
+        long change = ++lastChange;
+        event.expenseMonths().forEach(month -> monthChangedAt.put(month, change));
+        event.fundsMonths().forEach(month -> monthChangedAt.put(month, change));
+        if (event.fixedCostsFrom() != null) {
+            changedFrom.tailMap(event.fixedCostsFrom(), true).clear();
+            changedFrom.put(event.fixedCostsFrom(), change);
+        }
+        if (event.savingsChanged()) {
+            allMonthsChangedAt = change;
+        }
+        int before = entries.size();
+        entries.keySet().removeIf(key -> event.affects(key.month()));
+        invalidations += before - entries.size();
+    }
+
+    /**
+     * Data version of {@code month}; it changes whenever a committed write affects the month.
+     */
+    public synchronized long version(YearMonth month) {
+        long version = Math.max(allMonthsChangedAt, monthChangedAt.getOrDefault(month, 0L));
+        Map.Entry<YearMonth, Long> fixedCosts = changedFrom.floorEntry(month);
+        return fixedCosts != null ? Math.max(version, fixedCosts.getValue()) : version;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), maxEntries, hits, misses, evictions, invalidations);
+    }
+
+    private record Key(YearMonth month, LocalDate requestDate) {
+    }
+
+    /**
+     * Counters since startup. {@code evictions} counts entries dropped for size,
+     * {@code invalidations} counts entries dropped because their month changed.
+     */
+    public record Stats(int size, int maxEntries, long hits, long misses, long evictions, long invalidations) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.budget.application.service;
+
+import com.budget.domain.*;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import com.budget.infrastructure.repository.MonthlyFundsRepository;
+import com.budget.infrastructure.repository.MonthlySavingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads the data a monthly summary depends on and delegates the calculation
+ * to {@link MonthlySummaryService}. Results are served from {@link MonthlySummaryCache}
+ * until a write affects their month; concurrent misses for the same summary share one
+ * calculation through {@link SummarySingleFlight}.
+ */
+@Service
+@RequiredArgsConstructor
+public class MonthlySummaryQueryService {
+
+    private final MonthlySummaryService summaryService;
+    private final SummaryDataLoader summaryDataLoader;
+    private final MonthlyFundsRepository fundsRepository;
+    private final MonthlySavingsRepository savingsRepository;
+    private final FixedCostCalendar fixedCostCalendar;
+    private final ExpenseRepository expenseRepository;
+    private final MonthlySummaryCache summaryCache;
+    private final SummarySingleFlight singleFlight;
+
+    public MonthlySummary summaryFor(AccountingMonth month, LocalDate requestDate) {
+        YearMonth yearMonth = month.getYearMonth();
+        return summaryCache.get(yearMonth, requestDate,
+                () -> singleFlight.compute(yearMonth, requestDate, () -> calculate(month, requestDate)));
+    }
+
+    private MonthlySummary calculate(AccountingMonth month, LocalDate requestDate) {
+        SummaryDataLoader.SummaryData data = summaryDataLoader.load(month, requestDate);
+        return summaryService.calculate(
+                month, data.funds(), data.savings(), data.fixedCosts(), data.spent(), requestDate);
+    }
+
+    /**
+     * Summaries for all twelve months of a year, each as of the last day of its month.
+     * Funds, savings and the year's expenses are each loaded once, expenses are bucketed
+     * into months in a single pass and fixed costs come from the {@link FixedCostCalendar}.
+     */
+    public List<MonthlySummary> summariesForYear(int year) {
+        MonthlyFunds[] fundsByMonth = new MonthlyFunds[12];
+        for (MonthlyFunds funds : fundsRepository.findByYear(year)) {
+            // Same precedence as findTopByYearAndMonthOrderByIdDesc: the latest entry wins
+            MonthlyFunds current = fundsByMonth[funds.getMonth() - 1];
+            if (current == null || funds.getId() > current.getId()) {
+                fundsByMonth[funds.getMonth() - 1] = funds;
+            }
+        }
+        MonthlySavings savings = savingsRepository.findAll().stream()
+                .findFirst()
+                .orElse(null);
+        BigDecimal[] spentByMonth = new BigDecimal[12];
+        Arrays.fill(spentByMonth, BigDecimal.ZERO);
+        for (Expense expense : expenseRepository.findBySpentAtBetween(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            int index = expense.getSpentAt().getMonthValue() - 1;
+            spentByMonth[index] = spentByMonth[index].add(expense.getAmount());
+        }
+
+        List<MonthlySummary> summaries = new ArrayList<>(12);
+        for (int index = 0; index < 12; index++) {
+            YearMonth yearMonth = YearMonth.of(year, index + 1);
+            summaries.add(summaryService.calculate(
+                    new AccountingMonth(yearMonth),
+                    fundsByMonth[index],
+                    savings,
+                    fixedCostCalendar.totalFor(yearMonth),
+                    spentByMonth[index],
+                    yearMonth.atEndOfMonth()));
+        }
+        return summaries;
+    }
+}
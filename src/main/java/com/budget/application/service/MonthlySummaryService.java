@@ -2,6 +2,7 @@ package com.budget.application.service;
 
 import com.budget.domain.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -27,4 +28,31 @@ public interface MonthlySummaryService {
             List<Expense> expenses,
             LocalDate requestDate
     );
+
+    /**
+     * Calculate monthly summary from an already aggregated spent amount (expenses of the month
+     * on or before the request date), so callers do not need to load individual expenses.
+     * If date is null, uses today's date.
+     */
+    MonthlySummary calculate(
+            AccountingMonth month,
+            MonthlyFunds funds,
+            MonthlySavings savings,
+            List<CyclicExpense> cyclicExpenses,
+            BigDecimal spent,
+            LocalDate requestDate
+    );
+
+    /**
+     * Calculate monthly summary from already aggregated fixed costs (cyclic expenses due in
+     * the month) and spent amount. If date is null, uses today's date.
+     */
+    MonthlySummary calculate(
+            AccountingMonth month,
+            MonthlyFunds funds,
+            MonthlySavings savings,
+            BigDecimal fixedCosts,
+            BigDecimal spent,
+            LocalDate requestDate
+    );
 }
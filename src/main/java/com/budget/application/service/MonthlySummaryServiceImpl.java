@@ -2,6 +2,7 @@ package com.budget.application.service;
 
 import com.budget.domain.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -9,6 +10,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Service
+@ConditionalOnProperty(name = "budget.summary.engine", havingValue = "big-decimal", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MonthlySummaryServiceImpl implements MonthlySummaryService {
 
@@ -34,12 +36,35 @@ public class MonthlySummaryServiceImpl implements MonthlySummaryService {
             List<Expense> expenses,
             LocalDate requestDate) {
 
+        LocalDate dateForCalculation = requestDate != null ? requestDate : LocalDate.now();
+        BigDecimal spent = calculateSpent(expenses, month, dateForCalculation);
+        return calculate(month, funds, savings, cyclicExpenses, spent, dateForCalculation);
+    }
+
+    @Override
+    public MonthlySummary calculate(
+            AccountingMonth month,
+            MonthlyFunds funds,
+            MonthlySavings savings,
+            List<CyclicExpense> cyclicExpenses,
+            BigDecimal spent,
+            LocalDate requestDate) {
+        return calculate(month, funds, savings, calculateFixedCosts(cyclicExpenses, month), spent, requestDate);
+    }
+
+    @Override
+    public MonthlySummary calculate(
+            AccountingMonth month,
+            MonthlyFunds funds,
+            MonthlySavings savings,
+            BigDecimal fixedCosts,
+            BigDecimal spent,
+            LocalDate requestDate) {
+
         BigDecimal fundsAmount = funds != null ? funds.getAmount() : BigDecimal.ZERO;
         BigDecimal savingsAmount = savings != null ? savings.getAmount() : BigDecimal.ZERO;
 
         LocalDate dateForCalculation = requestDate != null ? requestDate : LocalDate.now();
-        BigDecimal fixedCosts = calculateFixedCosts(cyclicExpenses, month);
-        BigDecimal spent = calculateSpent(expenses, month, dateForCalculation);
         // available = funds - savings - fixedCosts - spent
         // Use requestDate to calculate daily limit based on remaining days
         BigDecimal available = fundsAmount
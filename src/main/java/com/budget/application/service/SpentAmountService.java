@@ -0,0 +1,35 @@
+package com.budget.application.service;
+
+import com.budget.domain.AccountingMonth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class SpentAmountService {
+
+    private final MonthlySpendService monthlySpendService;
+    private final DailySpendIndex dailySpendIndex;
+
+    /**
+     * Sum of expenses spent in the given month on or before the request date.
+     * Whole-month totals (every closed month, or any month requested at its last day)
+     * come from the monthly rollup; partial months are answered from the daily
+     * prefix-sum index, so no expense rows are scanned either way.
+     */
+    public BigDecimal spentThrough(AccountingMonth month, LocalDate requestDate) {
+        LocalDate end = requestDate.isBefore(month.lastDay()) ? requestDate : month.lastDay();
+        if (end.isBefore(month.firstDay())) {
+            return BigDecimal.ZERO;
+        }
+
+        if (end.equals(month.lastDay())) {
+            return monthlySpendService.totalFor(month.getYearMonth()).orElse(BigDecimal.ZERO);
+        }
+
+        return dailySpendIndex.spentThrough(month.getYearMonth(), end.getDayOfMonth());
+    }
+}
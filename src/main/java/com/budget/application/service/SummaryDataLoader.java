@@ -0,0 +1,93 @@
+package com.budget.application.service;
+
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.MonthlyFunds;
+import com.budget.domain.MonthlySavings;
+import com.budget.infrastructure.repository.MonthlyFundsRepository;
+import com.budget.infrastructure.repository.MonthlySavingsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+/**
+ * Loads the four independent inputs of a monthly summary. With
+ * {@code budget.summary.parallel-loads} enabled they are forked on virtual threads in a
+ * structured task scope, so the latency is that of the slowest load; the first failure
+ * cancels the remaining loads and is rethrown to the caller.
+ */
+@Component
+public class SummaryDataLoader {
+
+    private final MonthlyFundsRepository fundsRepository;
+    private final MonthlySavingsRepository savingsRepository;
+    private final FixedCostCalendar fixedCostCalendar;
+    private final SpentAmountService spentAmountService;
+    private final boolean parallelLoads;
+
+    public SummaryDataLoader(
+            MonthlyFundsRepository fundsRepository,
+            MonthlySavingsRepository savingsRepository,
+            FixedCostCalendar fixedCostCalendar,
+            SpentAmountService spentAmountService,
+            @Value("${budget.summary.parallel-loads:false}") boolean parallelLoads) {
+        this.fundsRepository = fundsRepository;
+        this.savingsRepository = savingsRepository;
+        this.fixedCostCalendar = fixedCostCalendar;
+        this.spentAmountService = spentAmountService;
+        this.parallelLoads = parallelLoads;
+    }
+
+    public SummaryData load(AccountingMonth month, LocalDate requestDate) {
+        return parallelLoads ? loadConcurrently(month, requestDate) : loadSequentially(month, requestDate);
+    }
+
+    private SummaryData loadSequentially(AccountingMonth month, LocalDate requestDate) {
+        YearMonth yearMonth = month.getYearMonth();
+        return new SummaryData(
+                loadFunds(yearMonth),
+                loadSavings(),
+                fixedCostCalendar.totalFor(yearMonth),
+                spentAmountService.spentThrough(month, requestDate));
+    }
+
+    private SummaryData loadConcurrently(AccountingMonth month, LocalDate requestDate) {
+        YearMonth yearMonth = month.getYearMonth();
+        try (var scope = StructuredTaskScope.open()) {
+            Subtask<MonthlyFunds> funds = scope.fork(() -> loadFunds(yearMonth));
+            Subtask<MonthlySavings> savings = scope.fork(this::loadSavings);
+            Subtask<BigDecimal> fixedCosts = scope.fork(() -> fixedCostCalendar.totalFor(yearMonth));
+            Subtask<BigDecimal> spent = scope.fork(() -> spentAmountService.spentThrough(month, requestDate));
+
+            scope.join();
+            return new SummaryData(funds.get(), savings.get(), fixedCosts.get(), spent.get());
+        } catch (StructuredTaskScope.FailedException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to load summary data", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading summary data", e);
+        }
+    }
+
+    private MonthlyFunds loadFunds(YearMonth yearMonth) {
+        return fundsRepository
+                .findTopByYearAndMonthOrderByIdDesc(yearMonth.getYear(), yearMonth.getMonthValue())
+                .orElse(null);
+    }
+
+    private MonthlySavings loadSavings() {
+        return savingsRepository.findAll().stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    public record SummaryData(MonthlyFunds funds, MonthlySavings savings, BigDecimal fixedCosts, BigDecimal spent) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.budget.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of serialized summary responses, keyed by month and a variant naming
+ * the response shape and its dates. Each entry is labelled with the month's data version
+ * from {@link MonthlySummaryCache}, read before the body was built, and is served only
+ * while that version is current. ETags are derived from the version alone, so a
+ * conditional request can be answered without building the body at all.
+ */
+@Component
+public class SummaryJsonCache {
+
+    private final MonthlySummaryCache summaryCache;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<Key, Rendered> entries;
+    // Versions restart at 0 on every boot; the instance id keeps old ETags from matching
+    private final String instanceId = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    public SummaryJsonCache(
+            MonthlySummaryCache summaryCache,
+            ObjectMapper objectMapper,
+            @Value("${budget.summary-json-cache.max-entries:1024}") int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Summary JSON cache size must be at least 1");
+        }
+        this.summaryCache = summaryCache;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Rendered> eldest) {
+                return size() > SummaryJsonCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Strong ETag of the current {@code variant} response for {@code month}.
+     */
+    public String etag(YearMonth month, String variant) {
+        return etag(summaryCache.version(month), variant);
+    }
+
+    /**
+     * Strong ETag of a {@code variant} response built from the summaries of every month of
+     * {@code year}. Versions are change numbers, so the newest one identifies the year.
+     */
+    public String etagForYear(int year, String variant) {
+        long version = 0;
+        for (int month = 1; month <= 12; month++) {
+            version = Math.max(version, summaryCache.version(YearMonth.of(year, month)));
+        }
+        return etag(version, variant + "-" + year);
+    }
+
+    /**
+     * The current {@code variant} response for {@code month}, serialized from
+     * {@code body} only when no entry for the current data version is cached.
+     */
+    public Rendered get(YearMonth month, String variant, Supplier<?> body) {
+        Key key = new Key(month, variant);
+        long version = summaryCache.version(month);
+        synchronized (this) {
+            Rendered cached = entries.get(key);
+            if (cached != null && cached.version() == version) {
+                return cached;
+            }
+        }
+
+        Rendered rendered = new Rendered(version, etag(version, variant), objectMapper.writeValueAsBytes(body.get()));
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return rendered;
+        }
+        synchronized (this) {
+            Rendered cached = entries.get(key);
+            if (cached == null || cached.version() < version) {
+                entries.put(key, rendered);
+            }
+        }
+        return rendered;
+    }
+
+    private String etag(long version, String variant) {
+        return "\"" + instanceId + "-" + version + "-" + variant + "\"";
+    }
+
+    private record Key(YearMonth month, String variant) {
+    }
+
+    /**
+     * A serialized response body and the data version and ETag it was built for.
+     */
+    public record Rendered(long version, String etag, byte[] json) {
+    }
+}
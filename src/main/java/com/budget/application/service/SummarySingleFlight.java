@@ -0,0 +1,101 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.MonthlySummary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calculations of the same summary: the first caller for an
+ * accounting month and request date computes it, and callers arriving while it runs
+ * wait for and share its result or its exception. Nothing is kept once the computation
+ * ends, so this works in front of {@link MonthlySummaryCache} or on its own.
+ *
+ * <p>A committed write removes the in-flight computations of the months it affects, so
+ * a request arriving after the commit starts a fresh one instead of joining a
+ * computation that may have read the old data. Callers inside a read-write transaction
+ * never share, as they may see their own uncommitted writes.
+ */
+@Component
+public class SummarySingleFlight {
+
+    private final Map<Key, CompletableFuture<MonthlySummary>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder computations = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public MonthlySummary compute(YearMonth month, LocalDate requestDate, Supplier<MonthlySummary> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+
+        Key key = new Key(month, requestDate);
+        CompletableFuture<MonthlySummary> flight = new CompletableFuture<>();
+        CompletableFuture<MonthlySummary> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        computations.increment();
+        try {
+            MonthlySummary summary = loader.get();
+            flight.complete(summary);
+            return summary;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Runs after the indexes summaries are calculated from have caught up with the write,
+    // and before MonthlySummaryCache moves the month's version, so no caller can read the
+    // new version and then join a calculation that started before the write
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        inFlight.keySet().removeIf(key -> event.affects(key.month()));
+    }
+
+    public Stats stats() {
+        return new Stats(inFlight.size(), computations.sum(), coalesced.sum());
+    }
+
+    private static MonthlySummary await(CompletableFuture<MonthlySummary> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(YearMonth month, LocalDate requestDate) {
+    }
+
+    /**
+     * Counters since startup. {@code computations} counts summaries calculated here,
+     * {@code coalesced} counts requests that shared another request's calculation.
+     */
+    public record Stats(int inFlight, long computations, long coalesced) {
+    }
+}
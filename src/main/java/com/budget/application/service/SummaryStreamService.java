@@ -0,0 +1,156 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.MonthlySummary;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes monthly summaries to Server-Sent Events subscribers. Each subscriber is an
+ * async {@link SseEmitter}, which holds no thread while idle. A committed write that
+ * affects a month with subscribers schedules one push for that month after
+ * {@code budget.summary-stream.interval}; writes arriving before it runs are folded into
+ * it, so a month is pushed at most once per interval. A push calculates the summary once,
+ * serializes it once and writes it to each subscriber on its own virtual thread, so a
+ * slow client does not hold up the others.
+ *
+ * <p>The summary is as of today for the current month and as of the last day otherwise,
+ * like {@code GET /v1/summary} without and with a year and month.
+ */
+@Service
+public class SummaryStreamService {
+
+    public static final String EVENT_NAME = "summary";
+
+    private final MonthlySummaryQueryService summaryQueryService;
+    private final ObjectMapper objectMapper;
+    private final Duration interval;
+    private final long timeoutMillis;
+
+    private final Map<YearMonth, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Set<YearMonth> scheduledMonths = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("summary-stream").daemon().factory());
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SummaryStreamService(
+            MonthlySummaryQueryService summaryQueryService,
+            ObjectMapper objectMapper,
+            @Value("${budget.summary-stream.interval:1s}") Duration interval,
+            @Value("${budget.summary-stream.timeout:30m}") Duration timeout) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Summary stream interval must be positive");
+        }
+        this.summaryQueryService = summaryQueryService;
+        this.objectMapper = objectMapper;
+        this.interval = interval;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Opens a stream for {@code month} whose first event is the current summary.
+     */
+    public SseEmitter subscribe(YearMonth month) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribers.compute(month, (key, monthSubscribers) -> {
+            Set<SseEmitter> updated = monthSubscribers != null ? monthSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(emitter);
+            return updated;
+        });
+        Runnable unsubscribe = () -> unsubscribe(month, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        send(emitter, serialize(summaryFor(month)));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // Runs after the caches and indexes have evicted the changed months
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onBudgetDataChanged(BudgetDataChangedEvent event) {
+        for (YearMonth month : subscribers.keySet()) {
+            if (event.affects(month) && scheduledMonths.add(month)) {
+                scheduler.schedule(() -> push(month), interval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(monthSubscribers -> monthSubscribers.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    private void push(YearMonth month) {
+        // Cleared before calculating, so a write committed from here on gets its own push
+        scheduledMonths.remove(month);
+        Set<SseEmitter> monthSubscribers = subscribers.get(month);
+        if (monthSubscribers == null || monthSubscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = serialize(summaryFor(month));
+        } catch (RuntimeException e) {
+            monthSubscribers.forEach(emitter -> emitter.completeWithError(e));
+            return;
+        }
+        for (SseEmitter emitter : monthSubscribers) {
+            senders.execute(() -> send(emitter, json));
+        }
+    }
+
+    private MonthlySummary summaryFor(YearMonth month) {
+        LocalDate today = LocalDate.now();
+        LocalDate requestDate = month.equals(YearMonth.from(today)) ? today : month.atEndOfMonth();
+        return summaryQueryService.summaryFor(new AccountingMonth(month), requestDate);
+    }
+
+    private String serialize(MonthlySummary summary) {
+        return objectMapper.writeValueAsString(summary);
+    }
+
+    private void send(SseEmitter emitter, String json) {
+        try {
+            // Already JSON: a plain string is written as is, not serialized again per subscriber
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(json));
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter completed; the callbacks unsubscribe it
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(YearMonth month, SseEmitter emitter) {
+        subscribers.computeIfPresent(month, (key, monthSubscribers) -> {
+            monthSubscribers.remove(emitter);
+            return monthSubscribers.isEmpty() ? null : monthSubscribers;
+        });
+    }
+}
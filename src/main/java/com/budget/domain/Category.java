@@ -0,0 +1,31 @@
+package com.budget.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dictionary entry for an expense category name. Expenses store only the integer key;
+ * entries are added on first use and never change, so they are cached for the life of
+ * the application. Ids come from an identity column because new entries are inserted
+ * one at a time with plain JDBC.
+ */
+@Entity
+@Table(name = "categories", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_categories_name", columnNames = "name")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Category {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String name;
+}
@@ -1,15 +1,21 @@
 package com.budget.domain;
 
+import com.budget.infrastructure.persistence.CyclicExpenseChangeListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import lombok.ToString;
 
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashSet;
 import java.util.Optional;
@@ -17,18 +23,27 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "cyclic_expenses")
+@Table(name = "cyclic_expenses", indexes = {
+        @Index(name = "idx_cyclic_expenses_active", columnList = "active"),
+        @Index(name = "idx_cyclic_expenses_name", columnList = "name, id")
+})
+@EntityListeners(CyclicExpenseChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(exclude = "rates")
+@EqualsAndHashCode(exclude = {"rates", "schedule"})
 public class CyclicExpense {
 
     @Id
     @Column(columnDefinition = "VARCHAR(36)")
     private UUID id;
 
+    /** Incremented by every update, including added rates; GET /v1/cyclic-expenses/{id} derives its ETag from it. */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @Column(nullable = false)
     @NotBlank(message = "Cyclic expense name cannot be blank")
     private String name;
@@ -50,6 +65,17 @@ public class CyclicExpense {
     @Builder.Default
     private Set<CyclicExpenseRate> rates = new HashSet<>();
 
+    /**
+     * Compiled form of the cycle interval and active rates, built on first use and
+     * dropped whenever either changes.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private CyclicExpenseSchedule schedule;
+
     @PrePersist
     public void prePersist() {
         if (this.id == null) {
@@ -57,12 +83,33 @@ public class CyclicExpense {
         }
     }
 
+    @PostLoad
+    @PostUpdate
+    public void invalidateSchedule() {
+        this.schedule = null;
+    }
+
+    public CyclicExpenseSchedule schedule() {
+        CyclicExpenseSchedule current = this.schedule;
+        if (current == null || !current.compiledFrom(this.rates)) {
+            current = CyclicExpenseSchedule.compile(this.cycleInterval, this.rates);
+            this.schedule = current;
+        }
+        return current;
+    }
+
+    public void setCycleInterval(int cycleInterval) {
+        this.cycleInterval = cycleInterval;
+        invalidateSchedule();
+    }
+
+    public void setRates(Set<CyclicExpenseRate> rates) {
+        this.rates = rates;
+        invalidateSchedule();
+    }
+
     public Optional<CyclicExpenseRate> rateFor(YearMonth month) {
-        LocalDate endOfMonth = month.atEndOfMonth();
-        return this.rates.stream()
-                .filter(CyclicExpenseRate::isActive)
-            .filter(rate -> !rate.getValidFrom().isAfter(endOfMonth))
-                .max((r1, r2) -> r1.getValidFrom().compareTo(r2.getValidFrom()));
+        return schedule().rateFor(month);
     }
 
     public boolean isActive() {
@@ -1,5 +1,6 @@
 package com.budget.domain;
 
+import com.budget.infrastructure.persistence.CyclicExpenseChangeListener;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -7,22 +8,25 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.EqualsAndHashCode;
+import org.hibernate.Hibernate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "cyclic_expense_rates")
+@Table(name = "cyclic_expense_rates", indexes = {
+        @Index(name = "idx_cyclic_expense_rates_expense", columnList = "cyclic_expense_id, valid_from")
+})
+@EntityListeners(CyclicExpenseChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EqualsAndHashCode(exclude = "cyclicExpense")
 public class CyclicExpenseRate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cyclic_expense_rates_seq")
+    @SequenceGenerator(name = "cyclic_expense_rates_seq", sequenceName = "cyclic_expense_rates_seq", allocationSize = SequenceIds.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,6 +48,49 @@ public class CyclicExpenseRate {
     @Builder.Default
     private boolean active = true;
 
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+        invalidateExpenseSchedule();
+    }
+
+    public void setValidFrom(LocalDate validFrom) {
+        this.validFrom = validFrom;
+        invalidateExpenseSchedule();
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+        invalidateExpenseSchedule();
+    }
+
+    private void invalidateExpenseSchedule() {
+        // An uninitialized proxy has not compiled a schedule yet, so there is nothing to drop
+        if (this.cyclicExpense != null && Hibernate.isInitialized(this.cyclicExpense)) {
+            this.cyclicExpense.invalidateSchedule();
+        }
+    }
+
+    /**
+     * Identity-based: rates live in a hash set while their amount and active flag change,
+     * so the hash code must not depend on mutable state. Unsaved rates are only equal to
+     * themselves.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CyclicExpenseRate other)) {
+            return false;
+        }
+        return this.id != null && this.id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return CyclicExpenseRate.class.hashCode();
+    }
+
     public BigDecimal amount() {
         return this.amount;
     }
@@ -0,0 +1,101 @@
+package com.budget.domain;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable compiled form of a cyclic expense: its active rates sorted by start, with
+ * start months as epoch-month integers so the applicable rate is found by binary search
+ * and the cycle check is plain integer arithmetic.
+ */
+public final class CyclicExpenseSchedule {
+
+    private static final Comparator<CyclicExpenseRate> BY_START = Comparator
+            .comparing(CyclicExpenseRate::getValidFrom)
+            .thenComparing(CyclicExpenseRate::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final int cycleInterval;
+    private final int[] startMonths;
+    private final CyclicExpenseRate[] rates;
+    private final BigDecimal[] amounts;
+    private final Set<CyclicExpenseRate> source;
+    private final int sourceSize;
+
+    private CyclicExpenseSchedule(int cycleInterval, CyclicExpenseRate[] rates, Set<CyclicExpenseRate> source) {
+        this.cycleInterval = cycleInterval;
+        this.rates = rates;
+        this.startMonths = new int[rates.length];
+        this.amounts = new BigDecimal[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            this.startMonths[i] = epochMonth(YearMonth.from(rates[i].getValidFrom()));
+            this.amounts[i] = rates[i].getAmount();
+        }
+        this.source = source;
+        this.sourceSize = source.size();
+    }
+
+    public static CyclicExpenseSchedule compile(int cycleInterval, Set<CyclicExpenseRate> rates) {
+        CyclicExpenseRate[] active = rates.stream()
+                .filter(CyclicExpenseRate::isActive)
+                .sorted(BY_START)
+                .toArray(CyclicExpenseRate[]::new);
+        return new CyclicExpenseSchedule(cycleInterval, active, rates);
+    }
+
+    public static int epochMonth(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * Whether this schedule was compiled from the given rate set in its current size.
+     * Changes to individual rates are caught by the rates invalidating their expense.
+     */
+    boolean compiledFrom(Set<CyclicExpenseRate> rates) {
+        return this.source == rates && this.sourceSize == rates.size();
+    }
+
+    public Optional<CyclicExpenseRate> rateFor(YearMonth month) {
+        int index = indexFor(epochMonth(month));
+        return index >= 0 ? Optional.of(rates[index]) : Optional.empty();
+    }
+
+    /**
+     * Whether the expense is due in the given month: a rate applies and the month falls
+     * on the cycle counted from that rate's start month.
+     */
+    public boolean isDue(YearMonth month) {
+        if (cycleInterval <= 0) {
+            return false;
+        }
+        int epochMonth = epochMonth(month);
+        int index = indexFor(epochMonth);
+        return index >= 0 && (epochMonth - startMonths[index]) % cycleInterval == 0;
+    }
+
+    public BigDecimal amountFor(YearMonth month) {
+        int index = indexFor(epochMonth(month));
+        return index >= 0 ? amounts[index] : BigDecimal.ZERO;
+    }
+
+    /**
+     * Index of the latest rate starting on or before the given month, or -1 if none.
+     */
+    private int indexFor(int epochMonth) {
+        int low = 0;
+        int high = startMonths.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startMonths[mid] <= epochMonth) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+}
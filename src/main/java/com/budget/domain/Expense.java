@@ -1,18 +1,34 @@
 package com.budget.domain;
 
+import com.budget.infrastructure.persistence.CategoryConverter;
+import com.budget.infrastructure.persistence.ExpenseChangeListener;
+import com.budget.infrastructure.persistence.InterningLocalDateConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 
 @Entity
-@Table(name = "expenses")
+@Table(name = "expenses", indexes = {
+        // Date-range queries, keyset paging and export order; amount makes daily sums index-only
+        @Index(name = "idx_expenses_spent_at", columnList = "spent_at, id, amount"),
+        @Index(name = "idx_expenses_category", columnList = "category_id, spent_at"),
+        @Index(name = "idx_expenses_amount", columnList = "amount, id")
+})
+@EntityListeners(ExpenseChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,23 +36,44 @@ import java.time.YearMonth;
 public class Expense {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenses_seq")
+    @SequenceGenerator(name = "expenses_seq", sequenceName = "expenses_seq", allocationSize = SequenceIds.ALLOCATION_SIZE)
     private Long id;
 
+    /** Incremented by every update; GET /v1/expenses/{id} derives its ETag from it. */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @Column(nullable = false, precision = 19, scale = 2)
     @NotNull(message = "Amount cannot be null")
     @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
     private BigDecimal amount;
 
-    @Column(nullable = false)
+    /** Stored as a key into the {@code categories} dictionary. */
+    @Column(name = "category_id", nullable = false)
+    @Convert(converter = CategoryConverter.class)
     @NotBlank(message = "Category cannot be blank")
     private String category;
 
     @Column(nullable = false)
+    @Convert(converter = InterningLocalDateConverter.class)
     @NotNull(message = "Spent date cannot be null")
     @PastOrPresent(message = "Spent date cannot be in the future")
     private LocalDate spentAt;
 
+    /**
+     * Amount and date as last read from or written to the database, so an update
+     * can tell which month the expense moved out of.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private PersistedState persistedState;
+
     public BigDecimal amount() {
         return this.amount;
     }
@@ -45,4 +82,23 @@ public class Expense {
         YearMonth spentMonth = YearMonth.from(this.spentAt);
         return spentMonth.equals(month);
     }
+
+    public PersistedState currentState() {
+        return new PersistedState(this.amount, this.spentAt);
+    }
+
+    public PersistedState persistedState() {
+        return this.persistedState;
+    }
+
+    public void markPersisted() {
+        this.persistedState = currentState();
+    }
+
+    public record PersistedState(BigDecimal amount, LocalDate spentAt) {
+
+        public YearMonth month() {
+            return YearMonth.from(this.spentAt);
+        }
+    }
 }
@@ -1,17 +1,29 @@
 package com.budget.domain;
 
+import com.budget.infrastructure.persistence.MonthlyFundsChangeListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.YearMonth;
 
 @Entity
-@Table(name = "monthly_funds")
+@Table(name = "monthly_funds", uniqueConstraints = {
+        // Also serves lookups by year, or by year and month
+        @UniqueConstraint(name = "uk_monthly_funds_year_month", columnNames = {"year_number", "month_number"})
+})
+@EntityListeners(MonthlyFundsChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,9 +31,15 @@ import java.time.YearMonth;
 public class MonthlyFunds {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_funds_seq")
+    @SequenceGenerator(name = "monthly_funds_seq", sequenceName = "monthly_funds_seq", allocationSize = SequenceIds.ALLOCATION_SIZE)
     private Long id;
 
+    /** Incremented by every update; GET /v1/monthly-funds/{year}/{month} derives its ETag from it. */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @Column(name = "year_number", nullable = false)
     @Min(value = 1900, message = "Year must be 1900 or later")
     @Max(value = 2100, message = "Year must be 2100 or earlier")
@@ -37,10 +55,30 @@ public class MonthlyFunds {
     @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
     private BigDecimal amount;
 
+    /**
+     * Month as last read from or written to the database, so an update can tell which
+     * month the entry moved out of.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private YearMonth persistedPeriod;
+
     public YearMonth period() {
         return YearMonth.of(this.year, this.month);
     }
 
+    public YearMonth persistedPeriod() {
+        return this.persistedPeriod;
+    }
+
+    public void markPersisted() {
+        this.persistedPeriod = period();
+    }
+
     public BigDecimal amount() {
         return this.amount;
     }
@@ -1,5 +1,7 @@
 package com.budget.domain;
 
+import com.budget.infrastructure.persistence.MonthlySavingsChangeListener;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +12,7 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "monthly_savings")
+@EntityListeners(MonthlySavingsChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,9 +20,15 @@ import java.math.BigDecimal;
 public class MonthlySavings {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_savings_seq")
+    @SequenceGenerator(name = "monthly_savings_seq", sequenceName = "monthly_savings_seq", allocationSize = SequenceIds.ALLOCATION_SIZE)
     private Long id;
 
+    /** Optimistic-locking version, incremented by every update. */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal amount;
 
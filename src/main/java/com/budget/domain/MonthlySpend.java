@@ -0,0 +1,41 @@
+package com.budget.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Rollup of all expenses spent in one month, maintained on every expense write.
+ */
+@Entity
+@Table(name = "monthly_spend")
+@IdClass(MonthlySpendId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlySpend {
+
+    @Id
+    @Column(name = "year_number", nullable = false)
+    private int year;
+
+    @Id
+    @Column(name = "month_number", nullable = false)
+    private int month;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "expense_count", nullable = false)
+    private long count;
+
+    public YearMonth period() {
+        return YearMonth.of(this.year, this.month);
+    }
+}
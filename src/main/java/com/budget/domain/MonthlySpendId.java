@@ -0,0 +1,16 @@
+package com.budget.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlySpendId implements Serializable {
+
+    private int year;
+    private int month;
+}
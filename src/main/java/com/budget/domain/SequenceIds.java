@@ -0,0 +1,16 @@
+package com.budget.domain;
+
+/**
+ * Shared settings of the sequence-backed id generators. With pooled optimizers the
+ * allocation size must equal the database sequence's INCREMENT BY, so it is a schema
+ * setting: changing it needs a migration that alters every {@code *_seq} sequence.
+ * Whether Hibernate uses the pooled or pooled-lo optimizer is configured with
+ * {@code hibernate.id.optimizer.pooled.preferred}.
+ */
+public final class SequenceIds {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private SequenceIds() {
+    }
+}
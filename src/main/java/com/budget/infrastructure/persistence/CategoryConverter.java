@@ -0,0 +1,31 @@
+package com.budget.infrastructure.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores {@code Expense.category} as its {@link CategoryDictionary} key. Query parameters
+ * compared with the attribute are converted too, so category filters, groupings and
+ * indexes work on the integer column. Conversion never adds a category: unknown names
+ * become {@link CategoryDictionary#UNKNOWN_ID} and match no expense. Written expenses get
+ * their key from {@link ExpenseChangeListener} before they are flushed.
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class CategoryConverter implements AttributeConverter<String, Integer> {
+
+    private final CategoryDictionary dictionary;
+
+    @Override
+    public Integer convertToDatabaseColumn(String category) {
+        return category == null ? null : dictionary.find(category).orElse(CategoryDictionary.UNKNOWN_ID);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : dictionary.nameOf(id);
+    }
+}
@@ -0,0 +1,131 @@
+package com.budget.infrastructure.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of the {@code categories} table, mapping category names to their
+ * integer keys and back. Names handed out by {@link #nameOf(int)} are the cached
+ * instances, so every loaded expense of a category shares one {@code String}.
+ *
+ * <p>Lookups never write: they run on the caller's connection, and names that are not in
+ * the table are remembered in a bounded set so repeated filters on them stay in memory.
+ * Only {@link #idFor(String)}, called when an expense is written, adds names. It inserts
+ * in a separate transaction that commits straight away, so a rolled-back expense write
+ * never leaves a cached key without its row. Dictionary entries are never updated or
+ * deleted.
+ */
+@Component
+public class CategoryDictionary {
+
+    /** Key that no category has: keys are generated from 1. Unknown names convert to it. */
+    public static final int UNKNOWN_ID = 0;
+
+    private static final int MAX_MISSING = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+    private final Set<String> missing = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_MISSING;
+        }
+    });
+
+    /**
+     * The transaction manager is looked up on first insert: the entity manager factory it
+     * needs creates {@link CategoryConverter}, which depends on this dictionary.
+     */
+    public CategoryDictionary(JdbcTemplate jdbcTemplate, ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Key of the category, adding it to the dictionary when it is new. For write paths only.
+     */
+    public int idFor(String name) {
+        Integer cached = ids.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        return lookup(name).orElseGet(() -> insert(name));
+    }
+
+    /**
+     * Key of the category, or empty when no expense has used it yet.
+     */
+    public Optional<Integer> find(String name) {
+        Integer cached = ids.get(name);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        synchronized (missing) {
+            if (missing.contains(name)) {
+                return Optional.empty();
+            }
+        }
+        Optional<Integer> found = lookup(name);
+        if (found.isEmpty()) {
+            // A concurrent insert is not lost: ids is checked before this set
+            synchronized (missing) {
+                missing.add(name);
+            }
+        }
+        return found;
+    }
+
+    public String nameOf(int id) {
+        String cached = names.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> found = jdbcTemplate.queryForList("SELECT name FROM categories WHERE id = ?", String.class, id);
+        if (found.isEmpty()) {
+            throw new IllegalStateException("Unknown category id " + id);
+        }
+        remember(id, found.getFirst());
+        return names.get(id);
+    }
+
+    private Optional<Integer> lookup(String name) {
+        List<Integer> found = jdbcTemplate.queryForList("SELECT id FROM categories WHERE name = ?", Integer.class, name);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(remember(found.getFirst(), name));
+    }
+
+    private int insert(String name) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO categories (name) VALUES (?)", name));
+        } catch (DuplicateKeyException e) {
+            // Another writer added the same category first; its row is read below
+        }
+        return lookup(name).orElseThrow(() -> new IllegalStateException("Category '" + name + "' was not stored"));
+    }
+
+    private int remember(int id, String name) {
+        String canonical = names.computeIfAbsent(id, key -> name);
+        ids.putIfAbsent(canonical, id);
+        return id;
+    }
+}
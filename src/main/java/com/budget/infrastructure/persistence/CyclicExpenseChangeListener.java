@@ -0,0 +1,41 @@
+package com.budget.infrastructure.persistence;
+
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.CyclicExpenseRate;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Entity listener for both {@link CyclicExpense} and {@link CyclicExpenseRate}, since rate
+ * rows are written through the cascade from their expense.
+ */
+@Component
+@RequiredArgsConstructor
+public class CyclicExpenseChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof CyclicExpense expense) {
+            YearMonth effectiveFrom = expense.getRates().stream()
+                    .map(rate -> YearMonth.from(rate.getValidFrom()))
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+            eventPublisher.publishEvent(new CyclicExpenseChangedEvent(expense.getId(), effectiveFrom));
+        } else if (entity instanceof CyclicExpenseRate rate) {
+            UUID expenseId = rate.getCyclicExpense() != null ? rate.getCyclicExpense().getId() : null;
+            eventPublisher.publishEvent(new CyclicExpenseChangedEvent(expenseId, YearMonth.from(rate.getValidFrom())));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.budget.infrastructure.persistence;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Published synchronously, inside the writing transaction, whenever a cyclic expense or
+ * one of its rates is inserted, updated or deleted. {@code effectiveFrom} is the earliest
+ * month the change can affect, or null when the expense has no rates.
+ */
+public record CyclicExpenseChangedEvent(UUID cyclicExpenseId, YearMonth effectiveFrom) {
+}
@@ -0,0 +1,63 @@
+package com.budget.infrastructure.persistence;
+
+import com.budget.domain.Expense;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns expense writes into {@link ExpenseChangedEvent}s, and
+ * adds the categories of written expenses to the {@link CategoryDictionary}. Hooking the
+ * entity lifecycle instead of the controller also covers writes made directly through
+ * {@code ExpenseRepository}, such as the seed data runner.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpenseChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryDictionary categoryDictionary;
+
+    // Before the row is bound, where CategoryConverter only looks keys up
+    @PrePersist
+    @PreUpdate
+    public void onWrite(Expense expense) {
+        if (expense.getCategory() != null) {
+            categoryDictionary.idFor(expense.getCategory());
+        }
+    }
+
+    @PostLoad
+    public void onLoad(Expense expense) {
+        expense.markPersisted();
+    }
+
+    @PostPersist
+    public void onPersist(Expense expense) {
+        eventPublisher.publishEvent(new ExpenseChangedEvent(null, expense.currentState()));
+        expense.markPersisted();
+    }
+
+    @PostUpdate
+    public void onUpdate(Expense expense) {
+        Expense.PersistedState previous = expense.persistedState() != null
+                ? expense.persistedState()
+                : expense.currentState();
+        eventPublisher.publishEvent(new ExpenseChangedEvent(previous, expense.currentState()));
+        expense.markPersisted();
+    }
+
+    @PostRemove
+    public void onRemove(Expense expense) {
+        Expense.PersistedState previous = expense.persistedState() != null
+                ? expense.persistedState()
+                : expense.currentState();
+        eventPublisher.publishEvent(new ExpenseChangedEvent(previous, null));
+    }
+}
@@ -0,0 +1,26 @@
+package com.budget.infrastructure.persistence;
+
+import com.budget.domain.Expense;
+
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Published synchronously, inside the writing transaction, whenever an expense row is
+ * inserted, updated or deleted. {@code previous} is null for inserts and {@code current}
+ * is null for deletes.
+ */
+public record ExpenseChangedEvent(Expense.PersistedState previous, Expense.PersistedState current) {
+
+    public Set<YearMonth> affectedMonths() {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        if (previous != null) {
+            months.add(previous.month());
+        }
+        if (current != null) {
+            months.add(current.month());
+        }
+        return months;
+    }
+}
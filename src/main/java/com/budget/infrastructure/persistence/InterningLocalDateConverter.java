@@ -0,0 +1,58 @@
+package com.budget.infrastructure.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Hands out one shared {@link LocalDate} per day when entities are loaded, so a large
+ * result set holds a few hundred date instances instead of one per row. The database
+ * value is unchanged. Days from {@value #FIRST_YEAR} to {@value #LAST_YEAR} are cached,
+ * one lazily allocated array per year; other dates pass through.
+ *
+ * <p>The cache is filled without locking. Two threads may race to store a day or a year's
+ * array and one store is lost, which only costs an extra instance; {@code LocalDate} is
+ * immutable, so a racing reader always sees a complete value.
+ */
+@Component
+@Converter
+public class InterningLocalDateConverter implements AttributeConverter<LocalDate, LocalDate> {
+
+    static final int FIRST_YEAR = 1900;
+    static final int LAST_YEAR = 2100;
+
+    private final boolean enabled;
+    private final LocalDate[][] years = new LocalDate[LAST_YEAR - FIRST_YEAR + 1][];
+
+    public InterningLocalDateConverter(@Value("${budget.persistence.intern-dates:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public LocalDate convertToDatabaseColumn(LocalDate date) {
+        return date;
+    }
+
+    @Override
+    public LocalDate convertToEntityAttribute(LocalDate date) {
+        if (!enabled || date == null || date.getYear() < FIRST_YEAR || date.getYear() > LAST_YEAR) {
+            return date;
+        }
+        int yearIndex = date.getYear() - FIRST_YEAR;
+        LocalDate[] days = years[yearIndex];
+        if (days == null) {
+            days = new LocalDate[366];
+            years[yearIndex] = days;
+        }
+        int dayIndex = date.getDayOfYear() - 1;
+        LocalDate cached = days[dayIndex];
+        if (cached != null) {
+            return cached;
+        }
+        days[dayIndex] = date;
+        return date;
+    }
+}
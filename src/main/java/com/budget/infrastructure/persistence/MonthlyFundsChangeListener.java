@@ -0,0 +1,39 @@
+package com.budget.infrastructure.persistence;
+
+import com.budget.domain.MonthlyFunds;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class MonthlyFundsChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(MonthlyFunds funds) {
+        funds.markPersisted();
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(MonthlyFunds funds) {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        if (funds.persistedPeriod() != null) {
+            months.add(funds.persistedPeriod());
+        }
+        months.add(funds.period());
+        eventPublisher.publishEvent(new MonthlyFundsChangedEvent(months));
+        funds.markPersisted();
+    }
+}
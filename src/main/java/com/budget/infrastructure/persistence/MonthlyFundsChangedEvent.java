@@ -0,0 +1,12 @@
+package com.budget.infrastructure.persistence;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * Published synchronously, inside the writing transaction, whenever a monthly funds row
+ * is inserted, updated or deleted. An update that moves the entry to another month lists
+ * both months.
+ */
+public record MonthlyFundsChangedEvent(Set<YearMonth> months) {
+}
@@ -0,0 +1,23 @@
+package com.budget.infrastructure.persistence;
+
+import com.budget.domain.MonthlySavings;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MonthlySavingsChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(MonthlySavings savings) {
+        eventPublisher.publishEvent(new MonthlySavingsChangedEvent());
+    }
+}
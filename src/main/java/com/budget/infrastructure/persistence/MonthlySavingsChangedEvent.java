@@ -0,0 +1,8 @@
+package com.budget.infrastructure.persistence;
+
+/**
+ * Published synchronously, inside the writing transaction, whenever a savings row is
+ * inserted, updated or deleted. Savings apply to every month.
+ */
+public record MonthlySavingsChangedEvent() {
+}
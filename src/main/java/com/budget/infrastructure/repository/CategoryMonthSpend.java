@@ -0,0 +1,17 @@
+package com.budget.infrastructure.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of the expense total for one category in one month.
+ */
+public interface CategoryMonthSpend {
+
+    String getCategory();
+
+    int getSpendYear();
+
+    int getSpendMonth();
+
+    BigDecimal getTotal();
+}
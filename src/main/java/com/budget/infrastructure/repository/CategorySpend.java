@@ -0,0 +1,15 @@
+package com.budget.infrastructure.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of the expense total and count for a single category.
+ */
+public interface CategorySpend {
+
+    String getCategory();
+
+    BigDecimal getTotal();
+
+    long getExpenseCount();
+}
@@ -1,13 +1,44 @@
 package com.budget.infrastructure.repository;
 
 import com.budget.domain.CyclicExpense;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CyclicExpenseRepository extends JpaRepository<CyclicExpense, UUID> {
     List<CyclicExpense> findByActive(boolean active);
+
+    /**
+     * Version of a cyclic expense, read from the primary key without loading it or its rates.
+     */
+    @Query("SELECT c.version FROM CyclicExpense c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Loads a cyclic expense whose version is incremented when the surrounding transaction
+     * commits. Hibernate does not count changes to the rates, which are owned by the rate
+     * side, as changes of the expense, so writes that add rates load it this way.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM CyclicExpense c WHERE c.id = :id")
+    Optional<CyclicExpense> findForRateChangeById(@Param("id") UUID id);
+
+    /**
+     * Keyset pagination by name: the first page, and the page after the expense with the
+     * given {@code (name, id)}.
+     */
+    List<CyclicExpense> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    @Query("SELECT c FROM CyclicExpense c WHERE c.name >= :name AND (c.name > :name OR c.id > :id) "
+            + "ORDER BY c.name ASC, c.id ASC")
+    List<CyclicExpense> findPageAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.budget.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection of the expense total for a single day.
+ */
+public interface DailySpend {
+
+    LocalDate getSpentAt();
+
+    BigDecimal getTotal();
+}
@@ -1,14 +1,68 @@
 package com.budget.infrastructure.repository;
 
 import com.budget.domain.Expense;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findBySpentAtBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Version of an expense, read from the primary key without loading the entity.
+     */
+    @Query("SELECT e.version FROM Expense e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Expenses of a category, compared on its dictionary key. An unknown name matches none.
+     */
     List<Expense> findByCategory(String category);
+
+    /**
+     * Keyset pagination, newest first: the first page, and the page after the expense with
+     * the given {@code (spentAt, id)}. The leading range on spentAt lets the seek use an index.
+     */
+    List<Expense> findAllByOrderBySpentAtDescIdDesc(Limit limit);
+
+    @Query("SELECT e FROM Expense e WHERE e.spentAt <= :spentAt AND (e.spentAt < :spentAt OR e.id < :id) "
+            + "ORDER BY e.spentAt DESC, e.id DESC")
+    List<Expense> findPageAfter(@Param("spentAt") LocalDate spentAt, @Param("id") long id, Limit limit);
+
+    /**
+     * Sum of expense amounts spent within the given date range (inclusive).
+     * Returns null when no expense falls into the range.
+     */
+    @Query("SELECT SUM(e.amount) FROM Expense e WHERE e.spentAt BETWEEN :startDate AND :endDate")
+    BigDecimal sumAmountBySpentAtBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT e.spentAt AS spentAt, SUM(e.amount) AS total FROM Expense e "
+            + "WHERE e.spentAt BETWEEN :startDate AND :endDate GROUP BY e.spentAt")
+    List<DailySpend> sumAmountByDayBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Spend per category within the given date range (inclusive), largest total first.
+     * Groups on the category key; ties are ordered by key, i.e. by first use.
+     */
+    @Query("SELECT e.category AS category, SUM(e.amount) AS total, COUNT(e) AS expenseCount FROM Expense e "
+            + "WHERE e.spentAt BETWEEN :startDate AND :endDate "
+            + "GROUP BY e.category ORDER BY SUM(e.amount) DESC, e.category")
+    List<CategorySpend> sumAmountByCategoryBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * Spend per category and month within the given date range (inclusive), in no particular order.
+     */
+    @Query("SELECT e.category AS category, EXTRACT(YEAR FROM e.spentAt) AS spendYear, "
+            + "EXTRACT(MONTH FROM e.spentAt) AS spendMonth, SUM(e.amount) AS total FROM Expense e "
+            + "WHERE e.spentAt BETWEEN :startDate AND :endDate "
+            + "GROUP BY e.category, EXTRACT(YEAR FROM e.spentAt), EXTRACT(MONTH FROM e.spentAt)")
+    List<CategoryMonthSpend> sumAmountByCategoryAndMonthBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -1,7 +1,10 @@
 package com.budget.infrastructure.repository;
 
 import com.budget.domain.MonthlyFunds;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +16,22 @@ public interface MonthlyFundsRepository extends JpaRepository<MonthlyFunds, Long
 
     Optional<MonthlyFunds> findTopByYearAndMonthOrderByIdDesc(int year, int month);
 
+    /**
+     * Id and version of the entry for a month, without loading it; year and month are unique.
+     */
+    @Query("SELECT f.id AS id, f.version AS version FROM MonthlyFunds f WHERE f.year = :year AND f.month = :month")
+    Optional<RowVersion> findVersionByYearAndMonth(@Param("year") int year, @Param("month") int month);
+
     List<MonthlyFunds> findByYear(int year);
+
+    /**
+     * Keyset pagination, latest month first: the first page, and the page after the entry
+     * with the given {@code (year, month, id)}.
+     */
+    List<MonthlyFunds> findAllByOrderByYearDescMonthDescIdDesc(Limit limit);
+
+    @Query("SELECT f FROM MonthlyFunds f WHERE f.year <= :year "
+            + "AND (f.year < :year OR f.month < :month OR (f.month = :month AND f.id < :id)) "
+            + "ORDER BY f.year DESC, f.month DESC, f.id DESC")
+    List<MonthlyFunds> findPageAfter(@Param("year") int year, @Param("month") int month, @Param("id") long id, Limit limit);
 }
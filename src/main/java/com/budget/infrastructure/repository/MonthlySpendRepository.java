@@ -0,0 +1,18 @@
+package com.budget.infrastructure.repository;
+
+import com.budget.domain.MonthlySpend;
+import com.budget.domain.MonthlySpendId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@Repository
+public interface MonthlySpendRepository extends JpaRepository<MonthlySpend, MonthlySpendId> {
+
+    @Query("SELECT m.total FROM MonthlySpend m WHERE m.year = :year AND m.month = :month")
+    Optional<BigDecimal> findTotalByYearAndMonth(@Param("year") int year, @Param("month") int month);
+}
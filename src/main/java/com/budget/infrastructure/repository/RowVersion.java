@@ -0,0 +1,11 @@
+package com.budget.infrastructure.repository;
+
+/**
+ * Projection of a row's id and optimistic-locking version.
+ */
+public interface RowVersion {
+
+    Long getId();
+
+    Long getVersion();
+}
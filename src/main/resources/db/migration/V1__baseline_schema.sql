@@ -0,0 +1,50 @@
+-- Schema as generated from the entity mappings with IDENTITY ids, before the switch to
+-- sequence-backed ids in V2.
+
+CREATE TABLE monthly_funds (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    year_number INT NOT NULL,
+    month_number INT NOT NULL,
+    amount DECIMAL(19,2) NOT NULL
+);
+
+CREATE TABLE monthly_savings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount DECIMAL(19,2) NOT NULL
+);
+
+CREATE TABLE cyclic_expenses (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    cycle_interval INT NOT NULL,
+    total_cycles INT,
+    active BOOLEAN NOT NULL
+);
+
+CREATE TABLE cyclic_expense_rates (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cyclic_expense_id VARCHAR(36) NOT NULL,
+    amount DECIMAL(19,2) NOT NULL,
+    valid_from DATE NOT NULL,
+    active BOOLEAN NOT NULL,
+
+    CONSTRAINT fk_cyclic_expense_rates_expense
+        FOREIGN KEY (cyclic_expense_id)
+        REFERENCES cyclic_expenses(id)
+);
+
+CREATE TABLE expenses (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount DECIMAL(19,2) NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    spent_at DATE NOT NULL
+);
+
+CREATE TABLE monthly_spend (
+    year_number INT NOT NULL,
+    month_number INT NOT NULL,
+    total DECIMAL(19,2) NOT NULL,
+    expense_count BIGINT NOT NULL,
+
+    PRIMARY KEY (year_number, month_number)
+);
@@ -0,0 +1,22 @@
+-- Move numeric ids from IDENTITY columns to sequences used by Hibernate's pooled
+-- optimizers. INCREMENT BY must match SequenceIds.ALLOCATION_SIZE.
+--
+-- Each sequence restarts at MAX(id) + 50: the pooled optimizer treats a sequence
+-- value as the top of a block of 50 ids and pooled-lo as the bottom, so this start
+-- keeps both clear of existing rows.
+
+CREATE SEQUENCE monthly_funds_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE monthly_funds_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM monthly_funds);
+ALTER TABLE monthly_funds ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE monthly_savings_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE monthly_savings_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM monthly_savings);
+ALTER TABLE monthly_savings ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE cyclic_expense_rates_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE cyclic_expense_rates_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM cyclic_expense_rates);
+ALTER TABLE cyclic_expense_rates ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE expenses_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE expenses_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM expenses);
+ALTER TABLE expenses ALTER COLUMN id DROP IDENTITY;
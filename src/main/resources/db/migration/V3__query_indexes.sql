@@ -0,0 +1,31 @@
+-- Indexes matched to the repository query methods, and one funds entry per month.
+-- Keep in sync with the @Table indexes and constraints on the entities.
+
+-- findBySpentAtBetween, spend sums by day and range, keyset paging, export
+CREATE INDEX idx_expenses_spent_at ON expenses (spent_at, id, amount);
+
+-- findByCategory
+CREATE INDEX idx_expenses_category ON expenses (category, spent_at);
+
+-- findByActive
+CREATE INDEX idx_cyclic_expenses_active ON cyclic_expenses (active);
+
+-- keyset paging by name
+CREATE INDEX idx_cyclic_expenses_name ON cyclic_expenses (name, id);
+
+-- loading the rates of a cyclic expense
+CREATE INDEX idx_cyclic_expense_rates_expense ON cyclic_expense_rates (cyclic_expense_id, valid_from);
+
+-- Summaries already use the newest entry of a month; drop older duplicates before
+-- enforcing uniqueness. Serves findByYearAndMonth, findTopByYearAndMonthOrderByIdDesc
+-- and findByYear.
+DELETE FROM monthly_funds f
+WHERE EXISTS (
+    SELECT 1 FROM monthly_funds newer
+    WHERE newer.year_number = f.year_number
+      AND newer.month_number = f.month_number
+      AND newer.id > f.id
+);
+
+ALTER TABLE monthly_funds
+    ADD CONSTRAINT uk_monthly_funds_year_month UNIQUE (year_number, month_number);
@@ -0,0 +1,2 @@
+-- Amount range filters and amount-ordered keyset paging in the expense search
+CREATE INDEX idx_expenses_amount ON expenses (amount, id);
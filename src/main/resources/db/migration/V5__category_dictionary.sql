@@ -0,0 +1,28 @@
+-- Replace the free-text expenses.category column with a key into a category dictionary.
+-- Keep in sync with the Category entity and the category_id column of Expense.
+
+CREATE TABLE categories (
+    id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+INSERT INTO categories (name)
+SELECT DISTINCT category FROM expenses ORDER BY category;
+
+ALTER TABLE expenses ADD COLUMN category_id INT;
+
+UPDATE expenses e
+SET category_id = (SELECT c.id FROM categories c WHERE c.name = e.category);
+
+ALTER TABLE expenses ALTER COLUMN category_id SET NOT NULL;
+
+DROP INDEX idx_expenses_category;
+ALTER TABLE expenses DROP COLUMN category;
+
+-- findByCategory and category filters in the expense search
+CREATE INDEX idx_expenses_category ON expenses (category_id, spent_at);
+
+ALTER TABLE expenses
+    ADD CONSTRAINT fk_expenses_category FOREIGN KEY (category_id) REFERENCES categories (id);
@@ -0,0 +1,6 @@
+-- Optimistic-locking versions, also used as per-row validators for conditional GETs.
+-- Keep in sync with the version attributes of Expense, MonthlyFunds, CyclicExpense and MonthlySavings.
+ALTER TABLE expenses ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE monthly_funds ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE cyclic_expenses ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE monthly_savings ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -40,6 +40,9 @@ class YearlyBudgetIntegrationTest {
     @Autowired
     private MonthlySummaryService monthlySummaryService;
 
+    @Autowired
+    private MonthlySummaryQueryService monthlySummaryQueryService;
+
     @BeforeEach
     void setUp() {
         // Clean up repositories
@@ -538,4 +541,28 @@ class YearlyBudgetIntegrationTest {
 
         return monthlySummaryService.calculate(accountingMonth, funds, savings, cyclicExpenses, expenses, date);
     }
+
+    @Test
+    void testYearSummaryMatchesMonthByMonthSummaries() {
+        setupYearlyBudget();
+        monthlySavingsRepository.deleteAll();
+        monthlySavingsRepository.save(MonthlySavings.builder().amount(new BigDecimal("1000.00")).build());
+
+        List<MonthlySummary> yearSummary = monthlySummaryQueryService.summariesForYear(2025);
+
+        assertEquals(12, yearSummary.size());
+        for (int month = 1; month <= 12; month++) {
+            MonthlySummary expected = getSummarySummary(month);
+            MonthlySummary actual = yearSummary.get(month - 1);
+            assertEquals(expected.getDate(), actual.getDate(), "date of month " + month);
+            assertEquals(expected.getFunds(), actual.getFunds(), "funds of month " + month);
+            assertEquals(0, expected.getSavings().compareTo(actual.getSavings()), "savings of month " + month);
+            assertEquals(expected.getFixedCosts(), actual.getFixedCosts(), "fixed costs of month " + month);
+            assertEquals(expected.getSpent(), actual.getSpent(), "spent of month " + month);
+            assertEquals(expected.getAvailable(), actual.getAvailable(), "available of month " + month);
+            assertEquals(expected.getDailyLimit(), actual.getDailyLimit(), "daily limit of month " + month);
+        }
+
+        monthlySavingsRepository.deleteAll();
+    }
 }
@@ -5,10 +5,12 @@ import com.budget.domain.CyclicExpense;
 import com.budget.infrastructure.repository.CyclicExpenseRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -16,9 +18,12 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -134,6 +139,33 @@ class CyclicExpenseControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(12));
     }
 
+    @Test
+    void testScrollCyclicExpensesByName() throws Exception {
+        List<String> names = List.of("Gym", "Insurance", "Rent", "Rent", "Rent|Garage", "Water");
+        for (String name : names) {
+            repository.save(CyclicExpense.builder()
+                    .id(UUID.randomUUID())
+                    .name(name)
+                    .cycleInterval(1)
+                    .active(true)
+                    .rates(new HashSet<>())
+                    .build());
+        }
+
+        List<String> scrolled = new ArrayList<>();
+        String cursor = null;
+        do {
+            String url = "/v1/cyclic-expenses?size=2" + (cursor != null ? "&cursor=" + cursor : "");
+            String json = mockMvc.perform(get(url).contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            scrolled.addAll(JsonPath.read(json, "$.content[*].name"));
+            cursor = JsonPath.read(json, "$.nextCursor");
+        } while (cursor != null);
+
+        assertEquals(names, scrolled);
+    }
+
     @Test
     void testGetCyclicExpenseById() throws Exception {
         CyclicExpense saved = repository.save(cyclicExpense);
@@ -144,6 +176,37 @@ class CyclicExpenseControllerTest {
                 .andExpect(jsonPath("$.name").value("Monthly Rent"));
     }
 
+    @Test
+    void testGetCyclicExpenseByIdEtagChangesWithNewRate() throws Exception {
+        CyclicExpense saved = repository.save(cyclicExpense);
+        String etag = mockMvc.perform(get("/v1/cyclic-expenses/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/cyclic-expenses/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/v1/cyclic-expenses/" + saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\": 1600.00, \"validFrom\": \"2026-02-01\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/cyclic-expenses/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rates.length()").value(1));
+    }
+
+    @Test
+    void testGetActiveAnswersIfNoneMatchWith304() throws Exception {
+        repository.save(cyclicExpense);
+        String etag = mockMvc.perform(get("/v1/cyclic-expenses/active"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/cyclic-expenses/active").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testGetCyclicExpenseByIdNotFound() throws Exception {
         UUID nonExistentId = UUID.randomUUID();
@@ -2,20 +2,31 @@ package com.budget.application.controller;
 
 import com.budget.domain.Expense;
 import com.budget.infrastructure.repository.ExpenseRepository;
+import com.budget.infrastructure.repository.MonthlySpendRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,6 +42,9 @@ class ExpenseControllerTest {
     @Autowired
     private ExpenseRepository repository;
 
+    @Autowired
+    private MonthlySpendRepository monthlySpendRepository;
+
     private Expense expense;
 
     @BeforeEach
@@ -89,6 +103,56 @@ class ExpenseControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testGetAllAnswersIfNoneMatchWith304UntilAnExpenseChanges() throws Exception {
+        repository.save(expense);
+        MvcResult first = mockMvc.perform(get("/v1/expenses"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/expenses").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        repository.save(Expense.builder()
+                .amount(new BigDecimal("5.00")).category("Food").spentAt(LocalDate.of(2026, 2, 6)).build());
+
+        mockMvc.perform(get("/v1/expenses").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void testGetExpenseByIdEtagFollowsRowVersion() throws Exception {
+        Expense saved = repository.save(expense);
+        Expense other = repository.save(Expense.builder()
+                .amount(new BigDecimal("5.00")).category("Food").spentAt(LocalDate.of(2026, 2, 6)).build());
+        String etag = mockMvc.perform(get("/v1/expenses/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Writes to other expenses leave this one's ETag alone
+        other.setAmount(new BigDecimal("6.00"));
+        repository.save(other);
+        mockMvc.perform(get("/v1/expenses/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Expense changed = Expense.builder()
+                .amount(new BigDecimal("55.00")).category("Food").spentAt(LocalDate.of(2026, 2, 5)).build();
+        mockMvc.perform(put("/v1/expenses/" + saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(changed)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/expenses/" + saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.amount").value(55.00))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
     @Test
     void testGetExpensesByCategory() throws Exception {
         Expense saved = repository.save(expense);
@@ -99,6 +163,16 @@ class ExpenseControllerTest {
                 .andExpect(jsonPath("$[0].category").value("Food"));
     }
 
+    @Test
+    void testGetExpensesByUnknownCategoryIsEmpty() throws Exception {
+        repository.save(expense);
+
+        mockMvc.perform(get("/v1/expenses/category/Never Used")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     void testGetExpensesPageReturnsTenItems() throws Exception {
         LocalDate baseDate = LocalDate.now().minusDays(20);
@@ -117,6 +191,60 @@ class ExpenseControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(12));
     }
 
+    @Test
+    void testScrollExpensesWalksAllPagesNewestFirst() throws Exception {
+        LocalDate baseDate = LocalDate.of(2026, 1, 1);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // Two expenses per day, so pages also split ties on spentAt
+            expected.add(repository.save(Expense.builder()
+                    .amount(new BigDecimal("10.00"))
+                    .category("Food")
+                    .spentAt(baseDate.plusDays(i / 2))
+                    .build()).getId());
+        }
+        expected.sort((a, b) -> Long.compare(b, a));
+
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String url = "/v1/expenses?size=5" + (cursor != null ? "&cursor=" + cursor : "");
+            String json = mockMvc.perform(get(url).contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            List<Number> ids = JsonPath.read(json, "$.content[*].id");
+            ids.forEach(id -> scrolled.add(id.longValue()));
+            cursor = JsonPath.read(json, "$.nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(expected, scrolled);
+    }
+
+    @Test
+    void testScrollExpensesRejectsInvalidCursorAndSize() throws Exception {
+        mockMvc.perform(get("/v1/expenses?size=5&cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/expenses?size=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testScrollExpensesLastPageHasNoCursor() throws Exception {
+        repository.save(expense);
+
+        String json = mockMvc.perform(get("/v1/expenses?size=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andReturn().getResponse().getContentAsString();
+
+        assertNull(JsonPath.read(json, "$.nextCursor"));
+    }
+
     @Test
     void testDeleteExpense() throws Exception {
         Expense saved = repository.save(expense);
@@ -132,4 +260,247 @@ class ExpenseControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void testCreateExpenseUpdatesMonthlySpendRollup() throws Exception {
+        BigDecimal before = rollupTotal(2026, 2);
+
+        mockMvc.perform(post("/v1/expenses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(expense)))
+                .andExpect(status().isOk());
+
+        assertEquals(0, before.add(new BigDecimal("50.00")).compareTo(rollupTotal(2026, 2)));
+    }
+
+    @Test
+    void testUpdateExpenseMovesSpendBetweenMonths() throws Exception {
+        Expense saved = repository.save(expense);
+        BigDecimal februaryBefore = rollupTotal(2026, 2);
+        BigDecimal januaryBefore = rollupTotal(2026, 1);
+
+        Expense moved = Expense.builder()
+                .amount(new BigDecimal("70.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 1, 20))
+                .build();
+
+        mockMvc.perform(put("/v1/expenses/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(moved)))
+                .andExpect(status().isOk());
+
+        assertEquals(0, februaryBefore.subtract(new BigDecimal("50.00")).compareTo(rollupTotal(2026, 2)));
+        assertEquals(0, januaryBefore.add(new BigDecimal("70.00")).compareTo(rollupTotal(2026, 1)));
+    }
+
+    @Test
+    void testDeleteExpenseUpdatesMonthlySpendRollup() throws Exception {
+        Expense saved = repository.save(expense);
+        BigDecimal before = rollupTotal(2026, 2);
+
+        mockMvc.perform(delete("/v1/expenses/" + saved.getId())
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        assertEquals(0, before.subtract(new BigDecimal("50.00")).compareTo(rollupTotal(2026, 2)));
+    }
+
+    private BigDecimal rollupTotal(int year, int month) {
+        return monthlySpendRepository.findTotalByYearAndMonth(year, month).orElse(BigDecimal.ZERO);
+    }
+
+    @Test
+    void testBulkImportJsonArrayReportsEveryRow() throws Exception {
+        String body = """
+                [
+                  {"amount": 12.50, "category": "Food", "spentAt": "2026-02-03"},
+                  {"amount": -5.00, "category": "Food", "spentAt": "2026-02-04"},
+                  {"amount": 30.00, "category": "Transport", "spentAt": "2026-02-05"}
+                ]
+                """;
+
+        mockMvc.perform(post("/v1/expenses/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.rows[0].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.rows[0].id").isNumber())
+                .andExpect(jsonPath("$.rows[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.rows[1].error").value("Amount must be greater than 0"))
+                .andExpect(jsonPath("$.rows[2].status").value("IMPORTED"));
+
+        assertEquals(2, repository.count());
+        assertEquals(0, new BigDecimal("42.50").compareTo(rollupTotal(2026, 2)));
+    }
+
+    @Test
+    void testBulkImportNdjson() throws Exception {
+        String body = """
+                {"amount": 10.00, "category": "Food", "spentAt": "2026-01-10"}
+                {"amount": 20.00, "category": "Food", "spentAt": "2026-02-10"}
+                """;
+
+        mockMvc.perform(post("/v1/expenses/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.imported").value(2));
+
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testBulkImportStopsAtMalformedInput() throws Exception {
+        String body = """
+                {"amount": 10.00, "category": "Food", "spentAt": "2026-01-10"}
+                {"amount": 20.00, "category": 
+                """;
+
+        mockMvc.perform(post("/v1/expenses/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.complete").value(false))
+                .andExpect(jsonPath("$.rows[1].status").value("REJECTED"));
+
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testExportCsvStreamsRangeInDateOrder() throws Exception {
+        Expense late = repository.save(Expense.builder()
+                .amount(new BigDecimal("20.00"))
+                .category("Rent, flat")
+                .spentAt(LocalDate.of(2026, 2, 20))
+                .build());
+        Expense early = repository.save(expense);
+        repository.save(Expense.builder()
+                .amount(new BigDecimal("99.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 3, 1))
+                .build());
+
+        MvcResult result = mockMvc.perform(get("/v1/expenses/export?from=2026-02-01&to=2026-02-28&format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("id,amount,category,spent_at\n"
+                        + early.getId() + ",50.00,Food,2026-02-05\n"
+                        + late.getId() + ",20.00,\"Rent, flat\",2026-02-20\n"));
+    }
+
+    @Test
+    void testExportNdjsonIsGzippedWhenAccepted() throws Exception {
+        repository.save(expense);
+
+        MvcResult result = mockMvc.perform(get("/v1/expenses/export?from=2026-02-01&to=2026-02-28&format=ndjson")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String ndjson;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            ndjson = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = ndjson.split("\n");
+        assertEquals(1, lines.length);
+        Expense exported = objectMapper.readValue(lines[0], Expense.class);
+        assertEquals("Food", exported.getCategory());
+        assertEquals(LocalDate.of(2026, 2, 5), exported.getSpentAt());
+    }
+
+    @Test
+    void testExportRejectsInvalidRequests() throws Exception {
+        mockMvc.perform(get("/v1/expenses/export?from=2026-03-01&to=2026-02-01"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/expenses/export?from=2026-02-01&to=2026-02-28&format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Expense saveExpense(String amount, String category, LocalDate spentAt) {
+        return repository.save(Expense.builder()
+                .amount(new BigDecimal(amount))
+                .category(category)
+                .spentAt(spentAt)
+                .build());
+    }
+
+    @Test
+    void testSearchCombinesFilters() throws Exception {
+        Expense match = saveExpense("40.00", "Food", LocalDate.of(2026, 1, 10));
+        Expense otherMatch = saveExpense("80.00", "Transport", LocalDate.of(2026, 1, 20));
+        saveExpense("40.00", "Rent", LocalDate.of(2026, 1, 10));
+        saveExpense("500.00", "Food", LocalDate.of(2026, 1, 11));
+        saveExpense("40.00", "Food", LocalDate.of(2026, 2, 1));
+
+        mockMvc.perform(get("/v1/expenses/search")
+                        .param("from", "2026-01-01")
+                        .param("to", "2026-01-31")
+                        .param("minAmount", "10")
+                        .param("maxAmount", "100")
+                        .param("category", "Food", "Transport"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(otherMatch.getId()))
+                .andExpect(jsonPath("$.content[1].id").value(match.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testSearchPagesByAmount() throws Exception {
+        List<String> amounts = List.of("30.00", "10.00", "20.00", "10.00", "50.00");
+        for (int i = 0; i < amounts.size(); i++) {
+            saveExpense(amounts.get(i), "Food", LocalDate.of(2026, 1, 1).plusDays(i));
+        }
+
+        List<Double> scrolled = new ArrayList<>();
+        String cursor = null;
+        do {
+            String url = "/v1/expenses/search?sort=amount,asc&size=2" + (cursor != null ? "&cursor=" + cursor : "");
+            String json = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<Number> page = JsonPath.read(json, "$.content[*].amount");
+            page.forEach(amount -> scrolled.add(amount.doubleValue()));
+            cursor = JsonPath.read(json, "$.nextCursor");
+        } while (cursor != null);
+
+        assertEquals(List.of(10.0, 10.0, 20.0, 30.0, 50.0), scrolled);
+    }
+
+    @Test
+    void testSearchRejectsInvalidParameters() throws Exception {
+        mockMvc.perform(get("/v1/expenses/search").param("sort", "category,asc"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/expenses/search").param("minAmount", "100").param("maxAmount", "10"))
+                .andExpect(status().isBadRequest());
+
+        saveExpense("10.00", "Food", LocalDate.of(2026, 1, 1));
+        saveExpense("20.00", "Food", LocalDate.of(2026, 1, 2));
+        String json = mockMvc.perform(get("/v1/expenses/search").param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String dateCursor = JsonPath.read(json, "$.nextCursor");
+
+        mockMvc.perform(get("/v1/expenses/search").param("sort", "amount,desc").param("size", "1").param("cursor", dateCursor))
+                .andExpect(status().isBadRequest());
+    }
 }
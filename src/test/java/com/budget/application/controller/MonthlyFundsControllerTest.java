@@ -3,17 +3,21 @@ package com.budget.application.controller;
 import com.budget.domain.MonthlyFunds;
 import com.budget.infrastructure.repository.MonthlyFundsRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -81,6 +85,35 @@ class MonthlyFundsControllerTest {
                 .andExpect(jsonPath("$.month").value(2));
     }
 
+    @Test
+    void testGetByYearAndMonthEtagChangesWhenEntryIsReplaced() throws Exception {
+        MonthlyFunds saved = repository.save(monthlyFunds);
+        String etag = mockMvc.perform(get("/v1/monthly-funds/2026/2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/monthly-funds/2026/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // A new entry for the month starts at version 0 again; its id keeps the ETag apart
+        repository.deleteById(saved.getId());
+        repository.save(MonthlyFunds.builder().year(2026).month(2).amount(new BigDecimal("5000.00")).build());
+
+        mockMvc.perform(get("/v1/monthly-funds/2026/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetByYearAnswersIfModifiedSinceWith304() throws Exception {
+        repository.save(monthlyFunds);
+        String lastModified = mockMvc.perform(get("/v1/monthly-funds/2026"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/v1/monthly-funds/2026").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testGetByYearAndMonthNotFound() throws Exception {
         mockMvc.perform(get("/v1/monthly-funds/2026/3")
@@ -137,6 +170,38 @@ class MonthlyFundsControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
             }
 
+    @Test
+    void testScrollMonthlyFundsLatestMonthFirst() throws Exception {
+        for (int i = 1; i <= 12; i++) {
+            repository.save(MonthlyFunds.builder()
+                    .year(2026)
+                    .month(i)
+                    .amount(new BigDecimal("5000.00"))
+                    .build());
+        }
+
+        String first = mockMvc.perform(get("/v1/monthly-funds?size=5")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].month").value(12))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+
+        String second = mockMvc.perform(get("/v1/monthly-funds?size=5&cursor=" + JsonPath.read(first, "$.nextCursor"))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Integer> months = JsonPath.read(second, "$.content[*].month");
+        assertEquals(List.of(7, 6, 5, 4, 3), months);
+
+        mockMvc.perform(get("/v1/monthly-funds?size=5&cursor=" + JsonPath.read(second, "$.nextCursor"))
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
     @Test
     void testDeleteMonthlyFunds() throws Exception {
         MonthlyFunds saved = repository.save(monthlyFunds);
@@ -1,5 +1,6 @@
 package com.budget.application.controller;
 
+import com.budget.application.service.SummaryStreamService;
 import com.budget.domain.*;
 import com.budget.infrastructure.repository.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -17,6 +19,9 @@ import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +46,9 @@ class MonthlySummaryControllerTest {
     @Autowired
     private ExpenseRepository expenseRepository;
 
+    @Autowired
+    private SummaryStreamService summaryStreamService;
+
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
@@ -130,4 +138,352 @@ class MonthlySummaryControllerTest {
                 .andExpect(jsonPath("$.date").value("2026-02-28"))
                 .andExpect(jsonPath("$.fixedCosts").value(1500.00));
     }
+
+    @Test
+    void testGetMonthlySummaryCountsOnlyExpensesUpToRequestedDay() throws Exception {
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("100.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 2, 5))
+                .build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("40.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 2, 20))
+                .build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("75.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 1, 31))
+                .build());
+
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "2")
+                .param("day", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2026-02-10"))
+                .andExpect(jsonPath("$.spent").value(100.00));
+
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spent").value(140.00));
+    }
+
+    @Test
+    void testSavingsWriteInvalidatesCachedSummary() throws Exception {
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.savings").value(0.00));
+
+        savingsRepository.save(MonthlySavings.builder()
+                .amount(new BigDecimal("250.00"))
+                .build());
+
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.savings").value(250.00));
+    }
+
+    @Test
+    void testGetCacheStats() throws Exception {
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/summary/cache-stats")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").isNumber())
+                .andExpect(jsonPath("$.misses").isNumber())
+                .andExpect(jsonPath("$.evictions").isNumber())
+                .andExpect(jsonPath("$.maxEntries").value(1024));
+    }
+
+    @Test
+    void testGetCoalescingStats() throws Exception {
+        mockMvc.perform(get("/v1/summary")
+                .param("year", "2026")
+                .param("month", "4")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/summary/coalescing-stats")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inFlight").value(0))
+                .andExpect(jsonPath("$.computations").isNumber())
+                .andExpect(jsonPath("$.coalesced").isNumber());
+    }
+
+    @Test
+    void testUnchangedSummaryAnswersIfNoneMatchWith304() throws Exception {
+        String etag = mockMvc.perform(get("/v1/summary").param("year", "2026").param("month", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.spent").value(0))
+                .andReturn().getResponse().getHeader("ETag");
+        MvcResult stats = mockMvc.perform(get("/v1/summary/cache-stats")).andReturn();
+
+        mockMvc.perform(get("/v1/summary").param("year", "2026").param("month", "5")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // A 304 is answered from the data version, without consulting the summary cache
+        mockMvc.perform(get("/v1/summary/cache-stats"))
+                .andExpect(content().json(stats.getResponse().getContentAsString()));
+    }
+
+    @Test
+    void testExpenseWriteChangesSummaryEtag() throws Exception {
+        String etag = mockMvc.perform(get("/v1/summary").param("year", "2026").param("month", "6"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("15.00")).category("Food").spentAt(LocalDate.of(2026, 6, 2)).build());
+
+        mockMvc.perform(get("/v1/summary").param("year", "2026").param("month", "6")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.spent").value(15.00));
+    }
+
+    @Test
+    void testDailyLimitAnswersIfNoneMatchWith304() throws Exception {
+        String etag = mockMvc.perform(get("/v1/summary/daily-limit")
+                        .param("year", "2026").param("month", "2").param("date", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remainingDays").value(19))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/v1/summary/daily-limit")
+                        .param("year", "2026").param("month", "2").param("date", "10")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/v1/summary/daily-limit")
+                        .param("year", "2026").param("month", "2").param("date", "11")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testGetYearSummary() throws Exception {
+        fundsRepository.save(MonthlyFunds.builder()
+                .year(2026)
+                .month(3)
+                .amount(new BigDecimal("4000.00"))
+                .build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("120.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 3, 9))
+                .build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("30.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 3, 31))
+                .build());
+
+        mockMvc.perform(get("/v1/summary/year/2026")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(12))
+                .andExpect(jsonPath("$[0].date").value("2026-01-31"))
+                .andExpect(jsonPath("$[0].funds").value(0.00))
+                .andExpect(jsonPath("$[2].date").value("2026-03-31"))
+                .andExpect(jsonPath("$[2].funds").value(4000.00))
+                .andExpect(jsonPath("$[2].spent").value(150.00))
+                .andExpect(jsonPath("$[2].available").value(3850.00))
+                .andExpect(jsonPath("$[11].date").value("2026-12-31"));
+    }
+
+    @Test
+    void testGetYearSummaryRejectsYearOutOfRange() throws Exception {
+        mockMvc.perform(get("/v1/summary/year/1800")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCategoryBreakdownForMonth() throws Exception {
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("40.00")).category("Food").spentAt(LocalDate.of(2026, 2, 3)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("25.50")).category("Food").spentAt(LocalDate.of(2026, 2, 10)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("900.00")).category("Rent").spentAt(LocalDate.of(2026, 2, 1)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("12.00")).category("Books").spentAt(LocalDate.of(2026, 2, 20)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("70.00")).category("Food").spentAt(LocalDate.of(2026, 3, 1)).build());
+
+        mockMvc.perform(get("/v1/summary/categories")
+                .param("year", "2026")
+                .param("month", "2")
+                .param("top", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2026-02-01"))
+                .andExpect(jsonPath("$.to").value("2026-02-28"))
+                .andExpect(jsonPath("$.total").value(977.50))
+                .andExpect(jsonPath("$.categories.length()").value(2))
+                .andExpect(jsonPath("$.categories[0].category").value("Rent"))
+                .andExpect(jsonPath("$.categories[1].category").value("Food"))
+                .andExpect(jsonPath("$.categories[1].total").value(65.50))
+                .andExpect(jsonPath("$.categories[1].expenseCount").value(2))
+                .andExpect(jsonPath("$.other.total").value(12.00))
+                .andExpect(jsonPath("$.other.expenseCount").value(1));
+    }
+
+    @Test
+    void testCategoryBreakdownForRange() throws Exception {
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("40.00")).category("Food").spentAt(LocalDate.of(2026, 1, 31)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("60.00")).category("Food").spentAt(LocalDate.of(2026, 2, 1)).build());
+
+        mockMvc.perform(get("/v1/summary/categories")
+                .param("from", "2026-01-01")
+                .param("to", "2026-02-28"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[0].total").value(100.00))
+                .andExpect(jsonPath("$.categories[0].expenseCount").value(2))
+                .andExpect(jsonPath("$.other").doesNotExist());
+    }
+
+    @Test
+    void testCategoryBreakdownAnswersIfNoneMatchWith304UntilAnExpenseChanges() throws Exception {
+        String etag = mockMvc.perform(get("/v1/summary/categories").param("year", "2026").param("month", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/v1/summary/categories").param("year", "2026").param("month", "2")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("8.00")).category("Food").spentAt(LocalDate.of(2026, 2, 8)).build());
+
+        mockMvc.perform(get("/v1/summary/categories").param("year", "2026").param("month", "2")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[0].category").value("Food"));
+    }
+
+    @Test
+    void testCategoryBreakdownRequiresOnePeriod() throws Exception {
+        mockMvc.perform(get("/v1/summary/categories"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/summary/categories")
+                .param("year", "2026").param("month", "2")
+                .param("from", "2026-01-01").param("to", "2026-01-31"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/summary/categories").param("year", "2026"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCategoryMatrixForYear() throws Exception {
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("40.00")).category("Food").spentAt(LocalDate.of(2026, 1, 3)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("25.50")).category("Food").spentAt(LocalDate.of(2026, 1, 10)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("900.00")).category("Rent").spentAt(LocalDate.of(2026, 3, 1)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("70.00")).category("Food").spentAt(LocalDate.of(2025, 12, 31)).build());
+
+        mockMvc.perform(get("/v1/summary/categories/matrix").param("year", "2026"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.months.length()").value(12))
+                .andExpect(jsonPath("$.months[0]").value("2026-01"))
+                .andExpect(jsonPath("$.categories[0]").value("Rent"))
+                .andExpect(jsonPath("$.categories[1]").value("Food"))
+                .andExpect(jsonPath("$.cents[0][2]").value(90000))
+                .andExpect(jsonPath("$.cents[1][0]").value(6550))
+                .andExpect(jsonPath("$.cents[1][1]").value(0));
+
+        // A new expense in the year replaces the cached matrix
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("10.00")).category("Food").spentAt(LocalDate.of(2026, 2, 1)).build());
+
+        mockMvc.perform(get("/v1/summary/categories/matrix").param("year", "2026"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cents[1][1]").value(1000));
+    }
+
+    @Test
+    void testCategoryMatrixForRange() throws Exception {
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("70.00")).category("Food").spentAt(LocalDate.of(2025, 12, 31)).build());
+
+        mockMvc.perform(get("/v1/summary/categories/matrix").param("from", "2025-12").param("to", "2026-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.months[0]").value("2025-12"))
+                .andExpect(jsonPath("$.cents[0][0]").value(7000));
+
+        mockMvc.perform(get("/v1/summary/categories/matrix").param("year", "2026").param("from", "2025-12"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSummaryStreamPushesAfterWrite() throws Exception {
+        MvcResult result = mockMvc.perform(get("/v1/summary/stream").param("year", "2026").param("month", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, countEvents(result));
+        assertTrue(result.getResponse().getContentAsString().contains("\"spent\":0"));
+
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("40.00")).category("Food").spentAt(LocalDate.of(2026, 2, 3)).build());
+        expenseRepository.save(Expense.builder()
+                .amount(new BigDecimal("2.00")).category("Food").spentAt(LocalDate.of(2026, 2, 4)).build());
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!result.getResponse().getContentAsString().contains("\"spent\":42.00")
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(result.getResponse().getContentAsString().contains("\"spent\":42.00"));
+        assertTrue(countEvents(result) >= 2);
+
+        int subscribers = summaryStreamService.subscriberCount();
+        result.getRequest().getAsyncContext().complete();
+        assertEquals(subscribers - 1, summaryStreamService.subscriberCount());
+    }
+
+    @Test
+    void testSummaryStreamRejectsInvalidMonth() throws Exception {
+        mockMvc.perform(get("/v1/summary/stream").param("year", "2026").param("month", "13"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/summary/stream").param("year", "2026"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static int countEvents(MvcResult result) throws Exception {
+        String body = result.getResponse().getContentAsString();
+        return body.split("event:summary", -1).length - 1;
+    }
 }
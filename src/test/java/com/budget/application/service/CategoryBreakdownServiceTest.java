@@ -0,0 +1,84 @@
+package com.budget.application.service;
+
+import com.budget.application.dto.CategoryBreakdown;
+import com.budget.infrastructure.repository.CategorySpend;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryBreakdownServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 2, 28);
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @InjectMocks
+    private CategoryBreakdownService service;
+
+    private record Row(String getCategory, BigDecimal getTotal, long getExpenseCount) implements CategorySpend {
+    }
+
+    @Test
+    void testListsEveryCategoryWithoutTop() {
+        when(expenseRepository.sumAmountByCategoryBetween(FROM, TO)).thenReturn(List.of(
+                new Row("Rent", new BigDecimal("1500.00"), 1),
+                new Row("Food", new BigDecimal("320.50"), 12)));
+
+        CategoryBreakdown breakdown = service.breakdown(FROM, TO, null);
+
+        assertEquals(2, breakdown.categories().size());
+        assertEquals("Rent", breakdown.categories().get(0).category());
+        assertEquals(new BigDecimal("1820.50"), breakdown.total());
+        assertNull(breakdown.other());
+    }
+
+    @Test
+    void testGroupsCategoriesBeyondTopIntoOther() {
+        when(expenseRepository.sumAmountByCategoryBetween(FROM, TO)).thenReturn(List.of(
+                new Row("Rent", new BigDecimal("1500.00"), 1),
+                new Row("Food", new BigDecimal("320.50"), 12),
+                new Row("Transport", new BigDecimal("80.00"), 4),
+                new Row("Books", new BigDecimal("19.50"), 1)));
+
+        CategoryBreakdown breakdown = service.breakdown(FROM, TO, 2);
+
+        assertEquals(List.of("Rent", "Food"), breakdown.categories().stream()
+                .map(CategoryBreakdown.CategoryTotal::category)
+                .toList());
+        assertEquals(CategoryBreakdownService.OTHER_CATEGORY, breakdown.other().category());
+        assertEquals(new BigDecimal("99.50"), breakdown.other().total());
+        assertEquals(5, breakdown.other().expenseCount());
+        assertEquals(new BigDecimal("1920.00"), breakdown.total());
+    }
+
+    @Test
+    void testNoExpensesGivesZeroTotal() {
+        when(expenseRepository.sumAmountByCategoryBetween(FROM, TO)).thenReturn(List.of());
+
+        CategoryBreakdown breakdown = service.breakdown(FROM, TO, 3);
+
+        assertTrue(breakdown.categories().isEmpty());
+        assertEquals(BigDecimal.ZERO, breakdown.total());
+        assertNull(breakdown.other());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> service.breakdown(TO, FROM, null));
+        assertThrows(IllegalArgumentException.class, () -> service.breakdown(FROM, TO, 0));
+        verifyNoInteractions(expenseRepository);
+    }
+}
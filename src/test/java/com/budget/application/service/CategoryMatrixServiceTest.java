@@ -0,0 +1,78 @@
+package com.budget.application.service;
+
+import com.budget.application.dto.CategoryMonthMatrix;
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.infrastructure.repository.CategoryMonthSpend;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryMatrixServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @InjectMocks
+    private CategoryMatrixService service;
+
+    private record Row(String getCategory, int getSpendYear, int getSpendMonth, BigDecimal getTotal)
+            implements CategoryMonthSpend {
+    }
+
+    @Test
+    void testBuildsColumnarMatrixOrderedByTotal() {
+        when(expenseRepository.sumAmountByCategoryAndMonthBetween(LocalDate.of(2025, 11, 1), LocalDate.of(2026, 2, 28)))
+                .thenReturn(List.of(
+                        new Row("Food", 2025, 11, new BigDecimal("120.50")),
+                        new Row("Rent", 2026, 1, new BigDecimal("900.00")),
+                        new Row("Food", 2026, 2, new BigDecimal("80.25"))));
+
+        CategoryMonthMatrix matrix = service.matrix(YearMonth.of(2025, 11), YearMonth.of(2026, 2));
+
+        assertEquals(List.of("2025-11", "2025-12", "2026-01", "2026-02"), matrix.months());
+        assertEquals(List.of("Rent", "Food"), matrix.categories());
+        assertArrayEquals(new long[] {0, 0, 90000, 0}, matrix.cents()[0]);
+        assertArrayEquals(new long[] {12050, 0, 0, 8025}, matrix.cents()[1]);
+    }
+
+    @Test
+    void testRejectsInvalidRanges() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.matrix(YearMonth.of(2026, 2), YearMonth.of(2026, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.matrix(YearMonth.of(2000, 1), YearMonth.of(2010, 1)));
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    void testYearMatrixIsCachedUntilAnExpenseInThatYearChanges() {
+        when(expenseRepository.sumAmountByCategoryAndMonthBetween(any(), any())).thenReturn(List.of());
+
+        CategoryMonthMatrix first = service.matrixForYear(2026);
+        assertSame(first, service.matrixForYear(2026));
+        assertEquals(12, first.months().size());
+
+        service.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(YearMonth.of(2025, 3))));
+        assertSame(first, service.matrixForYear(2026));
+
+        service.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(YearMonth.of(2026, 3))));
+        assertNotSame(first, service.matrixForYear(2026));
+
+        verify(expenseRepository, times(2)).sumAmountByCategoryAndMonthBetween(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+    }
+}
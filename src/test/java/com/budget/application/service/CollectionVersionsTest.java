@@ -0,0 +1,130 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.application.service.CollectionVersions.Collection;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionVersionsTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+
+    private final CollectionVersions versions = new CollectionVersions();
+
+    @Test
+    void testExpenseWriteMovesOnlyExpenseVersion() {
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        assertEquals(1, versions.current(Collection.EXPENSES).version());
+        assertEquals(0, versions.current(Collection.MONTHLY_FUNDS).version());
+        assertEquals(0, versions.current(Collection.CYCLIC_EXPENSES).version());
+        assertEquals(0, versions.current(Collection.MONTHLY_SAVINGS).version());
+    }
+
+    @Test
+    void testOneEventMovesEveryCollectionItTouches() {
+        versions.onBudgetDataChanged(new BudgetDataChangedEvent(
+                Set.of(), Set.of(FEBRUARY), Set.of(UUID.randomUUID()), FEBRUARY, true));
+
+        assertEquals(0, versions.current(Collection.EXPENSES).version());
+        assertEquals(1, versions.current(Collection.MONTHLY_FUNDS).version());
+        assertEquals(1, versions.current(Collection.CYCLIC_EXPENSES).version());
+        assertEquals(1, versions.current(Collection.MONTHLY_SAVINGS).version());
+    }
+
+    @Test
+    void testListEtagChangesWithCollectionVersion() {
+        String before = versions.validators(Collection.EXPENSES).etag();
+        String funds = versions.validators(Collection.MONTHLY_FUNDS).etag();
+
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        assertTrue(before.startsWith("W/\""));
+        assertNotEquals(before, versions.validators(Collection.EXPENSES).etag());
+        assertEquals(funds, versions.validators(Collection.MONTHLY_FUNDS).etag());
+    }
+
+    @Test
+    void testRowEtagDependsOnIdAndVersionOnly() {
+        String row = versions.validators(Collection.EXPENSES, 7L, 3).etag();
+
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        assertEquals(row, versions.validators(Collection.EXPENSES, 7L, 3).etag());
+        assertNotEquals(row, versions.validators(Collection.EXPENSES, 7L, 4).etag());
+        assertNotEquals(row, versions.validators(Collection.EXPENSES, 8L, 3).etag());
+    }
+
+    @Test
+    void testLastModifiedIsLatestWriteToAnyCollection() {
+        versions.onBudgetDataChanged(new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(), null, true));
+
+        assertEquals(versions.current(Collection.MONTHLY_SAVINGS).modifiedAt(), versions.lastModified());
+        assertFalse(versions.lastModified().isBefore(versions.current(Collection.EXPENSES).modifiedAt()));
+    }
+
+    @Test
+    void testWritesInTheSameSecondGetDistinctWholeSecondTimes() {
+        Instant before = Instant.now();
+        Instant startedAt = versions.current(Collection.EXPENSES).modifiedAt();
+
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        Instant first = versions.current(Collection.EXPENSES).modifiedAt();
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        Instant second = versions.current(Collection.EXPENSES).modifiedAt();
+
+        assertEquals(0, first.getNano());
+        assertEquals(0, second.getNano());
+        assertFalse(first.isBefore(before));
+        assertTrue(first.isAfter(startedAt));
+        assertTrue(second.isAfter(first));
+    }
+
+    @Test
+    void testIfModifiedSinceDoesNotMatchALaterWriteInTheSameSecond() {
+        long lastModified = versions.validators(Collection.EXPENSES).lastModified();
+
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/expenses");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        assertFalse(versions.checkNotModified(
+                new ServletWebRequest(request, new MockHttpServletResponse()), Collection.EXPENSES));
+    }
+
+    @Test
+    void testCheckNotModifiedMatchesOnlyCurrentCollectionEtag() {
+        String etag = versions.validators(Collection.EXPENSES).etag();
+
+        assertTrue(versions.checkNotModified(conditionalRequest(etag), Collection.EXPENSES));
+        assertFalse(versions.checkNotModified(conditionalRequest(etag), Collection.MONTHLY_FUNDS));
+
+        versions.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        assertFalse(versions.checkNotModified(conditionalRequest(etag), Collection.EXPENSES));
+    }
+
+    @Test
+    void testCheckNotModifiedForRowUsesRowVersion() {
+        String etag = versions.validators(Collection.EXPENSES, 7L, 3).etag();
+
+        assertTrue(versions.checkNotModified(conditionalRequest(etag), Collection.EXPENSES, 7L, 3));
+        assertFalse(versions.checkNotModified(conditionalRequest(etag), Collection.EXPENSES, 7L, 4));
+    }
+
+    private static ServletWebRequest conditionalRequest(String etag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/expenses");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -188,7 +188,7 @@ class CyclicExpenseServiceTest {
                 .validFrom(LocalDate.of(2026, 6, 1))
                 .build();
 
-        when(repository.findById(expenseId)).thenReturn(Optional.of(expenseWithRate));
+        when(repository.findForRateChangeById(expenseId)).thenReturn(Optional.of(expenseWithRate));
         when(repository.save(any(CyclicExpense.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         CyclicExpense result = service.addNewRate(expenseId, newRate);
@@ -0,0 +1,126 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.infrastructure.repository.DailySpend;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailySpendIndexTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @InjectMocks
+    private DailySpendIndex index;
+
+    @Test
+    void testSpentThroughUsesCumulativeDailyTotals() {
+        when(expenseRepository.sumAmountByDayBetween(FEBRUARY.atDay(1), FEBRUARY.atEndOfMonth()))
+                .thenReturn(List.of(
+                        daily(LocalDate.of(2026, 2, 3), "20.00"),
+                        daily(LocalDate.of(2026, 2, 10), "30.50"),
+                        daily(LocalDate.of(2026, 2, 28), "100.00")));
+
+        assertEquals(BigDecimal.ZERO, index.spentThrough(FEBRUARY, 2));
+        assertEquals(new BigDecimal("20.00"), index.spentThrough(FEBRUARY, 3));
+        assertEquals(new BigDecimal("50.50"), index.spentThrough(FEBRUARY, 27));
+        assertEquals(new BigDecimal("150.50"), index.spentThrough(FEBRUARY, 28));
+        assertEquals(new BigDecimal("130.50"), index.spentBetween(FEBRUARY, 4, 28));
+    }
+
+    @Test
+    void testMonthIsLoadedOnce() {
+        when(expenseRepository.sumAmountByDayBetween(any(), any())).thenReturn(List.of());
+
+        index.spentThrough(FEBRUARY, 5);
+        index.spentThrough(FEBRUARY, 20);
+
+        verify(expenseRepository, times(1)).sumAmountByDayBetween(any(), any());
+    }
+
+    @Test
+    void testChangeEventRebuildsLoadedMonth() {
+        when(expenseRepository.sumAmountByDayBetween(FEBRUARY.atDay(1), FEBRUARY.atEndOfMonth()))
+                .thenReturn(List.of(daily(LocalDate.of(2026, 2, 3), "20.00")))
+                .thenReturn(List.of(
+                        daily(LocalDate.of(2026, 2, 3), "20.00"),
+                        daily(LocalDate.of(2026, 2, 4), "5.00")));
+
+        assertEquals(new BigDecimal("20.00"), index.spentThrough(FEBRUARY, 10));
+
+        index.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        assertEquals(new BigDecimal("25.00"), index.spentThrough(FEBRUARY, 10));
+    }
+
+    @Test
+    void testChangeEventIgnoresMonthsNotLoaded() {
+        index.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    void testMonthLoadedWhileWriteCommitsIsNotStored() {
+        when(expenseRepository.sumAmountByDayBetween(FEBRUARY.atDay(1), FEBRUARY.atEndOfMonth()))
+                .thenAnswer(invocation -> {
+                    index.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+                    return List.of(daily(LocalDate.of(2026, 2, 3), "20.00"));
+                })
+                .thenReturn(List.of(daily(LocalDate.of(2026, 2, 3), "25.00")));
+
+        assertEquals(new BigDecimal("20.00"), index.spentThrough(FEBRUARY, 10));
+        assertEquals(new BigDecimal("25.00"), index.spentThrough(FEBRUARY, 10));
+        assertEquals(new BigDecimal("25.00"), index.spentThrough(FEBRUARY, 10));
+
+        verify(expenseRepository, times(2)).sumAmountByDayBetween(any(), any());
+    }
+
+    @Test
+    void testMonthLoadedInReadWriteTransactionIsNotStored() {
+        when(expenseRepository.sumAmountByDayBetween(any(), any())).thenReturn(List.of());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            index.spentThrough(FEBRUARY, 5);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        index.spentThrough(FEBRUARY, 5);
+        index.spentThrough(FEBRUARY, 5);
+
+        verify(expenseRepository, times(2)).sumAmountByDayBetween(any(), any());
+    }
+
+    private static DailySpend daily(LocalDate spentAt, String total) {
+        return new DailySpend() {
+            @Override
+            public LocalDate getSpentAt() {
+                return spentAt;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+}
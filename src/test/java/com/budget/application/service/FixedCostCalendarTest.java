@@ -0,0 +1,138 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.CyclicExpense;
+import com.budget.domain.CyclicExpenseRate;
+import com.budget.infrastructure.repository.CyclicExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FixedCostCalendarTest {
+
+    private static final YearMonth THIS_MONTH = YearMonth.now();
+
+    @Mock
+    private CyclicExpenseRepository cyclicExpenseRepository;
+
+    private FixedCostCalendar calendar;
+    private CyclicExpense rent;
+    private CyclicExpense insurance;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new FixedCostCalendar(cyclicExpenseRepository, new CyclicExpenseCalculator(), 1, 1);
+        rent = expense("Rent", 1, "1500.00", THIS_MONTH.minusMonths(6));
+        insurance = expense("Insurance", 3, "200.00", THIS_MONTH);
+    }
+
+    @Test
+    void testTotalsAreExpandedOnceForTheHorizon() {
+        when(cyclicExpenseRepository.findByActive(true)).thenReturn(List.of(rent, insurance));
+
+        assertEquals(new BigDecimal("1700.00"), calendar.totalFor(THIS_MONTH));
+        assertEquals(new BigDecimal("1500.00"), calendar.totalFor(THIS_MONTH.plusMonths(1)));
+        assertEquals(new BigDecimal("1700.00"), calendar.totalFor(THIS_MONTH.plusMonths(3)));
+        assertEquals(BigDecimal.ZERO, calendar.totalFor(THIS_MONTH.minusMonths(7)));
+
+        verify(cyclicExpenseRepository, times(1)).findByActive(true);
+    }
+
+    @Test
+    void testMonthOutsideHorizonIsCalculatedDirectly() {
+        when(cyclicExpenseRepository.findByActive(true)).thenReturn(List.of(rent, insurance));
+
+        assertEquals(new BigDecimal("1500.00"), calendar.totalFor(THIS_MONTH.plusYears(2).plusMonths(1)));
+
+        verify(cyclicExpenseRepository, times(2)).findByActive(true);
+    }
+
+    @Test
+    void testHorizonMovesWithTheCurrentMonth() {
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2026-01-15T10:00:00Z"));
+        FixedCostCalendar rolling = new FixedCostCalendar(
+                cyclicExpenseRepository, new CyclicExpenseCalculator(), 1, 1, clock);
+        CyclicExpense monthly = expense("Rent", 1, "1500.00", YearMonth.of(2025, 7));
+        when(cyclicExpenseRepository.findByActive(true)).thenReturn(List.of(monthly));
+
+        assertEquals(new BigDecimal("1500.00"), rolling.totalFor(YearMonth.of(2026, 1)));
+
+        when(clock.instant()).thenReturn(Instant.parse("2026-02-01T00:00:00Z"));
+        assertEquals(new BigDecimal("1500.00"), rolling.totalFor(YearMonth.of(2027, 2)));
+        assertEquals(new BigDecimal("1500.00"), rolling.totalFor(YearMonth.of(2027, 2)));
+
+        // One build per month; February 2027 is inside the rebuilt horizon
+        verify(cyclicExpenseRepository, times(2)).findByActive(true);
+    }
+
+    @Test
+    void testChangedExpenseIsReexpandedIncrementally() {
+        when(cyclicExpenseRepository.findByActive(true)).thenReturn(List.of(rent, insurance));
+        calendar.totalFor(THIS_MONTH);
+
+        insurance.setActive(false);
+        when(cyclicExpenseRepository.findById(insurance.getId())).thenReturn(Optional.of(insurance));
+        calendar.onBudgetDataChanged(cyclicEvent(insurance.getId()));
+
+        assertEquals(new BigDecimal("1500.00"), calendar.totalFor(THIS_MONTH));
+        verify(cyclicExpenseRepository, never()).findById(rent.getId());
+    }
+
+    @Test
+    void testDeletedExpenseIsRemoved() {
+        when(cyclicExpenseRepository.findByActive(true)).thenReturn(List.of(insurance));
+        calendar.totalFor(THIS_MONTH);
+
+        when(cyclicExpenseRepository.findById(insurance.getId())).thenReturn(Optional.empty());
+        calendar.onBudgetDataChanged(cyclicEvent(insurance.getId()));
+
+        assertEquals(BigDecimal.ZERO, calendar.totalFor(THIS_MONTH));
+    }
+
+    @Test
+    void testEventBeforeFirstUseIsIgnored() {
+        calendar.onBudgetDataChanged(cyclicEvent(rent.getId()));
+
+        verifyNoInteractions(cyclicExpenseRepository);
+    }
+
+    private static BudgetDataChangedEvent cyclicEvent(UUID id) {
+        return new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(id), THIS_MONTH, false);
+    }
+
+    private static CyclicExpense expense(String name, int cycleInterval, String amount, YearMonth validFrom) {
+        CyclicExpense expense = CyclicExpense.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .cycleInterval(cycleInterval)
+                .active(true)
+                .rates(new HashSet<>())
+                .build();
+        expense.getRates().add(CyclicExpenseRate.builder()
+                .amount(new BigDecimal(amount))
+                .validFrom(LocalDate.of(validFrom.getYear(), validFrom.getMonthValue(), 1))
+                .cyclicExpense(expense)
+                .build());
+        return expense;
+    }
+}
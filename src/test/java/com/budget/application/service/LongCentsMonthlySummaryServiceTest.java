@@ -0,0 +1,107 @@
+package com.budget.application.service;
+
+import com.budget.domain.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongCentsMonthlySummaryServiceTest {
+
+    private final CyclicExpenseCalculator cyclicExpenseCalculator = new CyclicExpenseCalculator();
+    private final DailyLimitCalculator dailyLimitCalculator = new DailyLimitCalculator();
+    private final MonthlySummaryServiceImpl bigDecimalEngine =
+            new MonthlySummaryServiceImpl(cyclicExpenseCalculator, dailyLimitCalculator);
+    private final LongCentsMonthlySummaryService longCentsEngine =
+            new LongCentsMonthlySummaryService(cyclicExpenseCalculator, dailyLimitCalculator);
+
+    @Test
+    void testMatchesBigDecimalEngineOnServiceTestScenarios() {
+        assertSameSummary("5000.00", "1000.00", "1500.00", "100.00", LocalDate.of(2026, 2, 5));
+        assertSameSummary(null, null, "0", "0", LocalDate.of(2026, 2, 28));
+        assertSameSummary("1000.00", "2000.00", "0", "0", LocalDate.of(2026, 2, 1));
+        assertSameSummary("1000.00", "1000.00", "0", "0", LocalDate.of(2026, 2, 1));
+        assertSameSummary("2000.00", null, "1800.00", "0", LocalDate.of(2026, 2, 1));
+        assertSameSummary("6000.00", null, "0", "0", LocalDate.of(2026, 3, 15));
+        assertSameSummary("2800.00", null, "0", "0", LocalDate.of(2026, 2, 28));
+        assertSameSummary("5000.00", "1000.00", "1850.00", "160.00", LocalDate.of(2026, 3, 15));
+        assertSameSummary("5000.00", "1000.00", "2050.00", "228.00", LocalDate.of(2026, 4, 15));
+    }
+
+    @Test
+    void testMatchesBigDecimalEngineOnRoundingTies() {
+        // 0.05 / 2 days = 0.025, a HALF_DOWN tie
+        assertSameSummary("0.05", null, "0", "0", LocalDate.of(2026, 2, 27));
+        // 0.07 / 2 days = 0.035
+        assertSameSummary("0.07", null, "0", "0", LocalDate.of(2026, 2, 27));
+        // Mixed scales: 10.5 - 0.125 at scale 3
+        assertSameSummary("10.5", "0.125", "0", "0", LocalDate.of(2026, 2, 20));
+        assertSameSummary("100", null, "0", "0", LocalDate.of(2026, 2, 1));
+    }
+
+    @Test
+    void testFallsBackOnValuesOutsideLongRange() {
+        assertSameSummary("92233720368547758.07", null, "-0.01", "0", LocalDate.of(2026, 2, 1));
+        assertSameSummary("1E+3", null, "0", "0", LocalDate.of(2026, 2, 1));
+        assertSameSummary("1.0000000000000000001", null, "0", "0", LocalDate.of(2026, 2, 1));
+    }
+
+    @Test
+    void testMatchesBigDecimalEngineOnRandomAmounts() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            YearMonth yearMonth = YearMonth.of(2020 + random.nextInt(10), 1 + random.nextInt(12));
+            LocalDate date = yearMonth.atDay(1 + random.nextInt(yearMonth.lengthOfMonth()));
+            assertSameSummary(
+                    randomAmount(random, 1_000_000_00L),
+                    randomAmount(random, 100_000_00L),
+                    randomAmount(random, 100_000_00L),
+                    randomAmount(random, 100_000_00L),
+                    date);
+        }
+    }
+
+    private void assertSameSummary(String funds, String savings, String fixedCosts, String spent, LocalDate date) {
+        AccountingMonth month = new AccountingMonth(YearMonth.from(date));
+        MonthlyFunds monthlyFunds = funds == null ? null : MonthlyFunds.builder()
+                .year(date.getYear()).month(date.getMonthValue()).amount(new BigDecimal(funds)).build();
+        MonthlySavings monthlySavings = savings == null ? null : MonthlySavings.builder()
+                .amount(new BigDecimal(savings)).build();
+
+        MonthlySummary expected = bigDecimalEngine.calculate(
+                month, monthlyFunds, monthlySavings, new BigDecimal(fixedCosts), new BigDecimal(spent), date);
+        MonthlySummary actual = longCentsEngine.calculate(
+                month, monthlyFunds, monthlySavings, new BigDecimal(fixedCosts), new BigDecimal(spent), date);
+
+        // MonthlySummary equality compares BigDecimals with equals, so scales must match too
+        assertEquals(expected, actual, () -> "funds=" + funds + " savings=" + savings
+                + " fixedCosts=" + fixedCosts + " spent=" + spent + " date=" + date);
+    }
+
+    @Test
+    void testListBasedCalculationUsesLongCentsArithmetic() {
+        AccountingMonth month = new AccountingMonth(YearMonth.of(2026, 2));
+        Expense expense = Expense.builder()
+                .amount(new BigDecimal("100.00"))
+                .category("Food")
+                .spentAt(LocalDate.of(2026, 2, 5))
+                .build();
+        MonthlyFunds funds = MonthlyFunds.builder().year(2026).month(2).amount(new BigDecimal("5000.00")).build();
+
+        MonthlySummary summary = longCentsEngine.calculate(
+                month, funds, null, List.of(), List.of(expense), LocalDate.of(2026, 2, 5));
+
+        assertEquals(new BigDecimal("4900.00"), summary.getAvailable());
+        // 4900 / 24 remaining days = 204.1666... -> 204.17
+        assertEquals(new BigDecimal("204.17"), summary.getDailyLimit());
+    }
+
+    private static String randomAmount(Random random, long maxCents) {
+        return BigDecimal.valueOf(Math.floorMod(random.nextLong(), maxCents), 2).toPlainString();
+    }
+}
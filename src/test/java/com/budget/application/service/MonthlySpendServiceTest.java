@@ -0,0 +1,136 @@
+package com.budget.application.service;
+
+import com.budget.domain.Expense;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MonthlySpendServiceTest {
+
+    private static final LocalDate SPENT_AT = LocalDate.of(2016, 3, 10);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        expenseRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM monthly_spend WHERE year_number = ? AND month_number = ?", 2016, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expenseRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentFirstWritesOfAMonthBothCommit() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // The first writer inserts the month's rollup row as it commits and holds it
+            // uncommitted while the second finds no row to update and tries to insert its own.
+            // Callbacks run in registration order, so this one runs after the rollup's.
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                expenseRepository.saveAndFlush(expense("40.00"));
+                entityManager.unwrap(SharedSessionContractImplementor.class)
+                        .getTransactionCompletionCallbacks()
+                        .registerCallback((TransactionCompletionCallbacks.BeforeCompletionCallback) session -> {
+                            firstWritten.countDown();
+                            sleep(300);
+                        });
+            }));
+            Future<?> second = executor.submit(() -> {
+                await(firstWritten);
+                transaction.executeWithoutResult(status -> expenseRepository.saveAndFlush(expense("2.50")));
+            });
+
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, expenseRepository.count());
+        Map<String, Object> rollup = jdbcTemplate.queryForMap(
+                "SELECT total, expense_count FROM monthly_spend WHERE year_number = ? AND month_number = ?", 2016, 3);
+        assertEquals(0, new BigDecimal("42.50").compareTo((BigDecimal) rollup.get("TOTAL")));
+        assertEquals(2L, ((Number) rollup.get("EXPENSE_COUNT")).longValue());
+    }
+
+    @Test
+    void testTransactionWritesItsRollupChangesAtCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            expenseRepository.saveAndFlush(expense("10.00"));
+            expenseRepository.saveAndFlush(expense("20.00"));
+            // Left for the commit flush, which must still reach the rollup
+            expenseRepository.save(expense("5.00"));
+
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM monthly_spend WHERE year_number = ? AND month_number = ?",
+                    Integer.class, 2016, 3));
+        });
+
+        Map<String, Object> rollup = jdbcTemplate.queryForMap(
+                "SELECT total, expense_count FROM monthly_spend WHERE year_number = ? AND month_number = ?", 2016, 3);
+        assertEquals(0, new BigDecimal("35.00").compareTo((BigDecimal) rollup.get("TOTAL")));
+        assertEquals(3L, ((Number) rollup.get("EXPENSE_COUNT")).longValue());
+    }
+
+    private static Expense expense(String amount) {
+        return Expense.builder()
+                .amount(new BigDecimal(amount))
+                .category("Rollup")
+                .spentAt(SPENT_AT)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
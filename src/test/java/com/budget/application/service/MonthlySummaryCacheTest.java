@@ -0,0 +1,147 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.MonthlySummary;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlySummaryCacheTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2026, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testSecondLookupIsServedFromCache() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+
+        MonthlySummary first = cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), this::load);
+        MonthlySummary second = cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testExpenseWriteInvalidatesOnlyAffectedMonth() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+        cache.get(JANUARY, JANUARY.atEndOfMonth(), this::load);
+        cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), this::load);
+
+        cache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        cache.get(JANUARY, JANUARY.atEndOfMonth(), this::load);
+        cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), this::load);
+
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void testFixedCostChangeInvalidatesFollowingMonths() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+        cache.get(JANUARY, JANUARY.atEndOfMonth(), this::load);
+        cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), this::load);
+
+        cache.onBudgetDataChanged(new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(), FEBRUARY, false));
+
+        assertEquals(1, cache.stats().size());
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void testSavingsChangeInvalidatesEveryMonth() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+        cache.get(JANUARY, JANUARY.atEndOfMonth(), this::load);
+        cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), this::load);
+
+        cache.onBudgetDataChanged(new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(), null, true));
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvictedWhenFull() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(2);
+        cache.get(FEBRUARY, LocalDate.of(2026, 2, 1), this::load);
+        cache.get(FEBRUARY, LocalDate.of(2026, 2, 2), this::load);
+        cache.get(FEBRUARY, LocalDate.of(2026, 2, 1), this::load);
+        cache.get(FEBRUARY, LocalDate.of(2026, 2, 3), this::load);
+
+        cache.get(FEBRUARY, LocalDate.of(2026, 2, 1), this::load);
+
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    void testResultComputedDuringInvalidationIsNotStored() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+
+        cache.get(FEBRUARY, FEBRUARY.atEndOfMonth(), () -> {
+            cache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+            return load();
+        });
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void testExpenseWriteMovesVersionOfItsMonthOnly() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+        long january = cache.version(JANUARY);
+        long february = cache.version(FEBRUARY);
+
+        cache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+
+        assertEquals(january, cache.version(JANUARY));
+        assertTrue(cache.version(FEBRUARY) > february);
+    }
+
+    @Test
+    void testFixedCostChangeMovesVersionsFromItsMonthOnwards() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+        YearMonth march = YearMonth.of(2026, 3);
+        cache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(march)));
+        long marchBefore = cache.version(march);
+
+        cache.onBudgetDataChanged(new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(), FEBRUARY, false));
+
+        assertEquals(0, cache.version(JANUARY));
+        assertTrue(cache.version(FEBRUARY) > 0);
+        assertTrue(cache.version(march) > marchBefore);
+        assertEquals(cache.version(FEBRUARY), cache.version(YearMonth.of(2030, 7)));
+    }
+
+    @Test
+    void testSavingsChangeMovesEveryVersion() {
+        MonthlySummaryCache cache = new MonthlySummaryCache(16);
+        cache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        long february = cache.version(FEBRUARY);
+
+        cache.onBudgetDataChanged(new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(), null, true));
+
+        assertTrue(cache.version(JANUARY) > 0);
+        assertTrue(cache.version(FEBRUARY) > february);
+    }
+
+    @Test
+    void testRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MonthlySummaryCache(0));
+    }
+
+    private MonthlySummary load() {
+        loads.incrementAndGet();
+        return MonthlySummary.builder().spent(BigDecimal.ZERO).build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.budget.application.service;
+
+import com.budget.domain.AccountingMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpentAmountServiceTest {
+
+    @Mock
+    private MonthlySpendService monthlySpendService;
+
+    @Mock
+    private DailySpendIndex dailySpendIndex;
+
+    @InjectMocks
+    private SpentAmountService service;
+
+    private AccountingMonth month;
+
+    @BeforeEach
+    void setUp() {
+        month = new AccountingMonth(YearMonth.of(2026, 2));
+    }
+
+    @Test
+    void testSpentThroughMidMonthReadsDailyIndex() {
+        when(dailySpendIndex.spentThrough(YearMonth.of(2026, 2), 14))
+                .thenReturn(new BigDecimal("250.00"));
+
+        BigDecimal spent = service.spentThrough(month, LocalDate.of(2026, 2, 14));
+
+        assertEquals(new BigDecimal("250.00"), spent);
+    }
+
+    @Test
+    void testSpentThroughDateAfterMonthReadsRollup() {
+        when(monthlySpendService.totalFor(YearMonth.of(2026, 2)))
+                .thenReturn(Optional.of(new BigDecimal("400.00")));
+
+        BigDecimal spent = service.spentThrough(month, LocalDate.of(2026, 5, 10));
+
+        assertEquals(new BigDecimal("400.00"), spent);
+        verifyNoInteractions(dailySpendIndex);
+    }
+
+    @Test
+    void testSpentThroughLastDayOfMonthReadsRollup() {
+        when(monthlySpendService.totalFor(YearMonth.of(2026, 2)))
+                .thenReturn(Optional.of(new BigDecimal("120.00")));
+
+        BigDecimal spent = service.spentThrough(month, LocalDate.of(2026, 2, 28));
+
+        assertEquals(new BigDecimal("120.00"), spent);
+    }
+
+    @Test
+    void testSpentThroughDateBeforeMonthIsZeroWithoutLookup() {
+        BigDecimal spent = service.spentThrough(month, LocalDate.of(2026, 1, 31));
+
+        assertEquals(BigDecimal.ZERO, spent);
+        verifyNoInteractions(monthlySpendService, dailySpendIndex);
+    }
+
+    @Test
+    void testSpentThroughEmptyRollupIsZero() {
+        when(monthlySpendService.totalFor(any())).thenReturn(Optional.empty());
+
+        assertEquals(BigDecimal.ZERO, service.spentThrough(month, LocalDate.of(2026, 2, 28)));
+    }
+}
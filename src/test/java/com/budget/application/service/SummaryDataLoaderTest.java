@@ -0,0 +1,121 @@
+package com.budget.application.service;
+
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.MonthlyFunds;
+import com.budget.domain.MonthlySavings;
+import com.budget.infrastructure.repository.MonthlyFundsRepository;
+import com.budget.infrastructure.repository.MonthlySavingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Sequential and structured-concurrent loading must return the same data. Their latency
+ * against a database with network delay is compared by {@code SummaryDataLoadBenchmark}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SummaryDataLoaderTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+    private static final AccountingMonth MONTH = new AccountingMonth(FEBRUARY);
+    private static final LocalDate REQUEST_DATE = FEBRUARY.atEndOfMonth();
+
+    @Mock
+    private MonthlyFundsRepository fundsRepository;
+
+    @Mock
+    private MonthlySavingsRepository savingsRepository;
+
+    @Mock
+    private FixedCostCalendar fixedCostCalendar;
+
+    @Mock
+    private SpentAmountService spentAmountService;
+
+    private final MonthlyFunds funds = MonthlyFunds.builder()
+            .year(2026).month(2).amount(new BigDecimal("5000.00")).build();
+    private final MonthlySavings savings = MonthlySavings.builder()
+            .amount(new BigDecimal("1000.00")).build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(fundsRepository.findTopByYearAndMonthOrderByIdDesc(2026, 2)).thenReturn(Optional.of(funds));
+        lenient().when(savingsRepository.findAll()).thenReturn(List.of(savings));
+        lenient().when(fixedCostCalendar.totalFor(FEBRUARY)).thenReturn(new BigDecimal("1850.00"));
+        lenient().when(spentAmountService.spentThrough(MONTH, REQUEST_DATE)).thenReturn(new BigDecimal("250.00"));
+    }
+
+    @Test
+    void testSequentialAndParallelLoadsReturnTheSameData() {
+        SummaryDataLoader.SummaryData sequential = loader(false).load(MONTH, REQUEST_DATE);
+        SummaryDataLoader.SummaryData parallel = loader(true).load(MONTH, REQUEST_DATE);
+
+        assertEquals(sequential, parallel);
+        assertSame(funds, parallel.funds());
+        assertSame(savings, parallel.savings());
+        assertEquals(new BigDecimal("1850.00"), parallel.fixedCosts());
+        assertEquals(new BigDecimal("250.00"), parallel.spent());
+    }
+
+    @Test
+    void testParallelLoadRunsAllQueriesAtOnce() {
+        // Each load waits until all four have started, which only a concurrent load achieves
+        CountDownLatch started = new CountDownLatch(4);
+        when(fundsRepository.findTopByYearAndMonthOrderByIdDesc(2026, 2)).thenAnswer(afterAllStarted(started, Optional.of(funds)));
+        when(savingsRepository.findAll()).thenAnswer(afterAllStarted(started, List.of(savings)));
+        when(fixedCostCalendar.totalFor(FEBRUARY)).thenAnswer(afterAllStarted(started, new BigDecimal("1850.00")));
+        when(spentAmountService.spentThrough(MONTH, REQUEST_DATE)).thenAnswer(afterAllStarted(started, new BigDecimal("250.00")));
+
+        SummaryDataLoader.SummaryData data = loader(true).load(MONTH, REQUEST_DATE);
+
+        assertSame(funds, data.funds());
+        assertEquals(new BigDecimal("250.00"), data.spent());
+    }
+
+    @Test
+    void testParallelLoadPropagatesFailure() {
+        when(savingsRepository.findAll()).thenThrow(new IllegalStateException("database unavailable"));
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> loader(true).load(MONTH, REQUEST_DATE));
+
+        assertEquals("database unavailable", thrown.getMessage());
+    }
+
+    @Test
+    void testParallelLoadHandlesMissingFunds() {
+        when(fundsRepository.findTopByYearAndMonthOrderByIdDesc(any(Integer.class), any(Integer.class)))
+                .thenReturn(Optional.empty());
+
+        assertNull(loader(true).load(MONTH, REQUEST_DATE).funds());
+    }
+
+    private SummaryDataLoader loader(boolean parallelLoads) {
+        return new SummaryDataLoader(fundsRepository, savingsRepository, fixedCostCalendar, spentAmountService, parallelLoads);
+    }
+
+    private static <T> Answer<T> afterAllStarted(CountDownLatch started, T result) {
+        return invocation -> {
+            started.countDown();
+            if (!started.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("loads did not run concurrently");
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryJsonCacheTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2026, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+
+    private final MonthlySummaryCache summaryCache = new MonthlySummaryCache(16);
+    private final SummaryJsonCache jsonCache = new SummaryJsonCache(summaryCache, JsonMapper.builder().build(), 16);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void testUnchangedMonthIsServedWithoutSerializing() {
+        SummaryJsonCache.Rendered first = jsonCache.get(FEBRUARY, "summary", this::body);
+        SummaryJsonCache.Rendered second = jsonCache.get(FEBRUARY, "summary", this::body);
+
+        assertSame(first, second);
+        assertEquals(1, renders.get());
+        assertEquals("{\"renders\":1}", new String(first.json(), StandardCharsets.UTF_8));
+        assertEquals(jsonCache.etag(FEBRUARY, "summary"), first.etag());
+    }
+
+    @Test
+    void testWriteToMonthChangesEtagAndBody() {
+        SummaryJsonCache.Rendered before = jsonCache.get(FEBRUARY, "summary", this::body);
+        String januaryEtag = jsonCache.etag(JANUARY, "summary");
+
+        summaryCache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        SummaryJsonCache.Rendered after = jsonCache.get(FEBRUARY, "summary", this::body);
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals("{\"renders\":2}", new String(after.json(), StandardCharsets.UTF_8));
+        assertEquals(januaryEtag, jsonCache.etag(JANUARY, "summary"));
+    }
+
+    @Test
+    void testVariantsAreCachedSeparately() {
+        SummaryJsonCache.Rendered summary = jsonCache.get(FEBRUARY, "summary", this::body);
+        SummaryJsonCache.Rendered dailyLimit = jsonCache.get(FEBRUARY, "daily-limit", this::body);
+
+        assertEquals(2, renders.get());
+        assertNotEquals(summary.etag(), dailyLimit.etag());
+    }
+
+    @Test
+    void testBodyRenderedDuringWriteKeepsVersionReadBeforeIt() {
+        String etagBefore = jsonCache.etag(FEBRUARY, "summary");
+
+        SummaryJsonCache.Rendered rendered = jsonCache.get(FEBRUARY, "summary", () -> {
+            summaryCache.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+            return body();
+        });
+        jsonCache.get(FEBRUARY, "summary", this::body);
+
+        assertEquals(etagBefore, rendered.etag());
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void testRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SummaryJsonCache(summaryCache, JsonMapper.builder().build(), 0));
+    }
+
+    private Map<String, Integer> body() {
+        return Map.of("renders", renders.incrementAndGet());
+    }
+}
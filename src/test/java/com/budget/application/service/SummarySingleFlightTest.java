@@ -0,0 +1,145 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.MonthlySummary;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummarySingleFlightTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+    private static final LocalDate REQUEST_DATE = LocalDate.of(2026, 2, 1);
+
+    private final SummarySingleFlight singleFlight = new SummarySingleFlight();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testConcurrentIdenticalRequestsShareOneCalculation() throws Exception {
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<MonthlySummary>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.compute(FEBRUARY, REQUEST_DATE, () -> {
+                    await(release);
+                    return load();
+                })));
+            }
+            waitUntil(() -> singleFlight.stats().coalesced() == callers - 1);
+            release.countDown();
+
+            MonthlySummary first = results.getFirst().get(5, TimeUnit.SECONDS);
+            for (Future<MonthlySummary> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(new SummarySingleFlight.Stats(0, 1, callers - 1), singleFlight.stats());
+    }
+
+    @Test
+    void testSequentialRequestsEachCalculate() {
+        singleFlight.compute(FEBRUARY, REQUEST_DATE, this::load);
+        singleFlight.compute(FEBRUARY, REQUEST_DATE, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlight.stats().coalesced());
+    }
+
+    @Test
+    void testFailureIsSharedAndNotRemembered() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MonthlySummary> leader = executor.submit(() -> singleFlight.compute(FEBRUARY, REQUEST_DATE, () -> {
+                await(release);
+                throw new IllegalStateException("database down");
+            }));
+            waitUntil(() -> singleFlight.stats().inFlight() == 1);
+            Future<MonthlySummary> follower = executor.submit(
+                    () -> singleFlight.compute(FEBRUARY, REQUEST_DATE, this::load));
+            waitUntil(() -> singleFlight.stats().coalesced() == 1);
+            release.countDown();
+
+            for (Future<MonthlySummary> result : List.of(leader, follower)) {
+                Exception failure = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, failure.getCause());
+            }
+        }
+
+        assertNotNull(singleFlight.compute(FEBRUARY, REQUEST_DATE, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testWriteDetachesRunningCalculationFromNewRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MonthlySummary> before = executor.submit(() -> singleFlight.compute(FEBRUARY, REQUEST_DATE, () -> {
+                await(release);
+                return load();
+            }));
+            waitUntil(() -> singleFlight.stats().inFlight() == 1);
+
+            singleFlight.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+            MonthlySummary after = singleFlight.compute(FEBRUARY, REQUEST_DATE, this::load);
+            release.countDown();
+
+            assertNotSame(before.get(5, TimeUnit.SECONDS), after);
+        }
+
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlight.stats().coalesced());
+    }
+
+    @Test
+    void testDifferentDaysAreNotCoalesced() {
+        singleFlight.compute(FEBRUARY, REQUEST_DATE, () -> {
+            singleFlight.compute(FEBRUARY, REQUEST_DATE.plusDays(1), this::load);
+            return load();
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlight.stats().coalesced());
+    }
+
+    private MonthlySummary load() {
+        loads.incrementAndGet();
+        return MonthlySummary.builder().date(REQUEST_DATE).spent(BigDecimal.TEN).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
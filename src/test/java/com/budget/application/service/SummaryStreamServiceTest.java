@@ -0,0 +1,111 @@
+package com.budget.application.service;
+
+import com.budget.application.event.BudgetDataChangedEvent;
+import com.budget.domain.AccountingMonth;
+import com.budget.domain.MonthlySummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryStreamServiceTest {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2026, 2);
+    private static final YearMonth MARCH = YearMonth.of(2026, 3);
+    private static final Duration INTERVAL = Duration.ofMillis(100);
+
+    @Mock
+    private MonthlySummaryQueryService summaryQueryService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private SummaryStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SummaryStreamService(summaryQueryService, objectMapper, INTERVAL, Duration.ofMinutes(1));
+        lenient().when(summaryQueryService.summaryFor(any(), any()))
+                .thenReturn(MonthlySummary.builder().date(FEBRUARY.atEndOfMonth()).spent(BigDecimal.TEN).build());
+        lenient().when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void testSubscribeSendsSummaryAsOfLastDayOfPastMonth() {
+        service.subscribe(FEBRUARY);
+
+        verify(summaryQueryService).summaryFor(new AccountingMonth(FEBRUARY), LocalDate.of(2026, 2, 28));
+        assertEquals(1, service.subscriberCount());
+    }
+
+    @Test
+    void testBurstOfWritesIsPushedOnce() throws InterruptedException {
+        service.subscribe(FEBRUARY);
+
+        for (int i = 0; i < 20; i++) {
+            service.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        }
+
+        verify(summaryQueryService, timeout(2_000).times(2)).summaryFor(any(), any());
+        Thread.sleep(INTERVAL.toMillis() * 3);
+        verify(summaryQueryService, times(2)).summaryFor(any(), any());
+    }
+
+    @Test
+    void testWriteAfterPushIsPushedAgain() {
+        service.subscribe(FEBRUARY);
+
+        service.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        verify(summaryQueryService, timeout(2_000).times(2)).summaryFor(any(), any());
+
+        service.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(FEBRUARY)));
+        verify(summaryQueryService, timeout(2_000).times(3)).summaryFor(any(), any());
+    }
+
+    @Test
+    void testWritesToOtherMonthsAreNotPushed() throws InterruptedException {
+        service.subscribe(FEBRUARY);
+
+        service.onBudgetDataChanged(BudgetDataChangedEvent.forExpenseMonths(Set.of(MARCH)));
+        Thread.sleep(INTERVAL.toMillis() * 3);
+
+        verify(summaryQueryService, times(1)).summaryFor(any(), any());
+    }
+
+    @Test
+    void testFixedCostChangePushesFollowingMonths() {
+        service.subscribe(MARCH);
+
+        service.onBudgetDataChanged(new BudgetDataChangedEvent(Set.of(), Set.of(), Set.of(), FEBRUARY, false));
+
+        verify(summaryQueryService, timeout(2_000).times(2))
+                .summaryFor(eq(new AccountingMonth(MARCH)), any());
+    }
+
+    @Test
+    void testIntervalMustBePositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SummaryStreamService(summaryQueryService, objectMapper, Duration.ZERO, Duration.ofMinutes(1)));
+    }
+}
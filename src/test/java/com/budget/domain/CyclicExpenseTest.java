@@ -133,4 +133,57 @@ class CyclicExpenseTest {
 
         assertEquals(existingId, expense.getId());
     }
+
+    @Test
+    void testScheduleIsRecompiledWhenRateIsAdded() {
+        cyclicExpense.getRates().add(CyclicExpenseRate.builder()
+                .amount(new BigDecimal("1000.00"))
+                .validFrom(LocalDate.of(2026, 1, 1))
+                .cyclicExpense(cyclicExpense)
+                .build());
+        assertEquals(new BigDecimal("1000.00"), cyclicExpense.schedule().amountFor(YearMonth.of(2026, 4)));
+
+        cyclicExpense.getRates().add(CyclicExpenseRate.builder()
+                .amount(new BigDecimal("1200.00"))
+                .validFrom(LocalDate.of(2026, 4, 1))
+                .cyclicExpense(cyclicExpense)
+                .build());
+
+        assertEquals(new BigDecimal("1200.00"), cyclicExpense.schedule().amountFor(YearMonth.of(2026, 4)));
+        assertEquals(new BigDecimal("1000.00"), cyclicExpense.schedule().amountFor(YearMonth.of(2026, 3)));
+    }
+
+    @Test
+    void testScheduleIsRecompiledWhenRateIsDeactivated() {
+        CyclicExpenseRate rate = CyclicExpenseRate.builder()
+                .id(1L)
+                .amount(new BigDecimal("1000.00"))
+                .validFrom(LocalDate.of(2026, 1, 1))
+                .cyclicExpense(cyclicExpense)
+                .build();
+        cyclicExpense.getRates().add(rate);
+        assertTrue(cyclicExpense.rateFor(YearMonth.of(2026, 2)).isPresent());
+
+        rate.setActive(false);
+
+        assertFalse(cyclicExpense.rateFor(YearMonth.of(2026, 2)).isPresent());
+        assertTrue(cyclicExpense.getRates().contains(rate));
+    }
+
+    @Test
+    void testScheduleIsDueOnCycleFromRateStart() {
+        cyclicExpense.setCycleInterval(3);
+        cyclicExpense.getRates().add(CyclicExpenseRate.builder()
+                .amount(new BigDecimal("300.00"))
+                .validFrom(LocalDate.of(2025, 11, 15))
+                .build());
+
+        CyclicExpenseSchedule schedule = cyclicExpense.schedule();
+
+        assertFalse(schedule.isDue(YearMonth.of(2025, 10)));
+        assertTrue(schedule.isDue(YearMonth.of(2025, 11)));
+        assertFalse(schedule.isDue(YearMonth.of(2025, 12)));
+        assertTrue(schedule.isDue(YearMonth.of(2026, 2)));
+        assertTrue(schedule.isDue(YearMonth.of(2026, 5)));
+    }
 }
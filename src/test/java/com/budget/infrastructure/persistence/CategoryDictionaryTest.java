@@ -0,0 +1,113 @@
+package com.budget.infrastructure.persistence;
+
+import com.budget.domain.Expense;
+import com.budget.infrastructure.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CategoryDictionaryTest {
+
+    @Autowired
+    private CategoryDictionary dictionary;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        expenseRepository.deleteAll();
+    }
+
+    @Test
+    void testExpensesStoreOneKeyPerCategory() {
+        expenseRepository.save(expense("Dictionary Food", "12.00"));
+        expenseRepository.save(expense("Dictionary Food", "8.00"));
+        expenseRepository.save(expense("Dictionary Rent", "900.00"));
+
+        assertEquals(1, countCategoryRows("Dictionary Food"));
+        int foodId = dictionary.find("Dictionary Food").orElseThrow();
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM expenses WHERE category_id = ?", Integer.class, foodId));
+        assertEquals("Dictionary Food", dictionary.nameOf(foodId));
+    }
+
+    @Test
+    void testLoadedExpensesShareTheCategoryName() {
+        expenseRepository.save(expense("Dictionary Shared", "1.00"));
+        expenseRepository.save(expense("Dictionary Shared", "2.00"));
+
+        List<Expense> loaded = expenseRepository.findByCategory("Dictionary Shared");
+
+        assertEquals(2, loaded.size());
+        assertSame(loaded.get(0).getCategory(), loaded.get(1).getCategory());
+    }
+
+    @Test
+    void testFindDoesNotAddUnknownCategories() {
+        assertTrue(dictionary.find("Dictionary Unknown").isEmpty());
+        assertEquals(0, countCategoryRows("Dictionary Unknown"));
+    }
+
+    @Test
+    void testQueryingUnknownCategoryDoesNotAddIt() {
+        assertTrue(expenseRepository.findByCategory("Dictionary Queried").isEmpty());
+        assertTrue(expenseRepository.findByCategory("Dictionary Queried").isEmpty());
+
+        assertEquals(0, countCategoryRows("Dictionary Queried"));
+    }
+
+    @Test
+    void testCategoryRememberedAsUnknownCanStillBeWritten() {
+        assertTrue(dictionary.find("Dictionary Later").isEmpty());
+
+        Expense saved = expenseRepository.save(expense("Dictionary Later", "3.00"));
+
+        assertEquals(1, countCategoryRows("Dictionary Later"));
+        assertTrue(dictionary.find("Dictionary Later").isPresent());
+        assertEquals(List.of(saved.getId()),
+                expenseRepository.findByCategory("Dictionary Later").stream().map(Expense::getId).toList());
+    }
+
+    @Test
+    void testCategoryAddedByRolledBackWriteStaysUsable() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            expenseRepository.saveAndFlush(expense("Dictionary Rollback", "5.00"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, countCategoryRows("Dictionary Rollback"));
+        Expense saved = expenseRepository.save(expense("Dictionary Rollback", "6.00"));
+        assertEquals("Dictionary Rollback", expenseRepository.findById(saved.getId()).orElseThrow().getCategory());
+    }
+
+    private int countCategoryRows(String name) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories WHERE name = ?", Integer.class, name);
+    }
+
+    private static Expense expense(String category, String amount) {
+        return Expense.builder()
+                .amount(new BigDecimal(amount))
+                .category(category)
+                .spentAt(LocalDate.of(2026, 2, 5))
+                .build();
+    }
+}
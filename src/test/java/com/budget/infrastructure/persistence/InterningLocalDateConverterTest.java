@@ -0,0 +1,57 @@
+package com.budget.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterningLocalDateConverterTest {
+
+    @Test
+    void testLoadedDatesOfTheSameDayAreShared() {
+        InterningLocalDateConverter converter = new InterningLocalDateConverter(true);
+
+        LocalDate first = converter.convertToEntityAttribute(LocalDate.of(2026, 2, 5));
+        LocalDate second = converter.convertToEntityAttribute(LocalDate.of(2026, 2, 5));
+        LocalDate otherDay = converter.convertToEntityAttribute(LocalDate.of(2026, 2, 6));
+
+        assertSame(first, second);
+        assertEquals(LocalDate.of(2026, 2, 6), otherDay);
+        assertNotSame(first, otherDay);
+    }
+
+    @Test
+    void testLeapDayAndYearBoundsAreCached() {
+        InterningLocalDateConverter converter = new InterningLocalDateConverter(true);
+
+        for (LocalDate date : new LocalDate[] {
+                LocalDate.of(2024, 12, 31), LocalDate.of(2024, 2, 29),
+                LocalDate.of(InterningLocalDateConverter.FIRST_YEAR, 1, 1),
+                LocalDate.of(InterningLocalDateConverter.LAST_YEAR, 12, 31)}) {
+            LocalDate cached = converter.convertToEntityAttribute(date);
+            assertSame(cached, converter.convertToEntityAttribute(LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth())));
+        }
+    }
+
+    @Test
+    void testDatesOutsideTheCachedYearsAndNullPassThrough() {
+        InterningLocalDateConverter converter = new InterningLocalDateConverter(true);
+        LocalDate early = LocalDate.of(1850, 6, 1);
+
+        assertSame(early, converter.convertToEntityAttribute(early));
+        assertNotSame(converter.convertToEntityAttribute(LocalDate.of(1850, 6, 1)), early);
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void testDisabledConverterKeepsEveryInstance() {
+        InterningLocalDateConverter converter = new InterningLocalDateConverter(false);
+
+        LocalDate first = converter.convertToEntityAttribute(LocalDate.of(2026, 2, 5));
+        LocalDate second = LocalDate.of(2026, 2, 5);
+
+        assertSame(second, converter.convertToEntityAttribute(second));
+        assertNotSame(first, second);
+    }
+}
@@ -0,0 +1,22 @@
+package com.budget.infrastructure.repository;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Query plans on the schema Hibernate creates from the entity mappings.
+ */
+@SpringBootTest
+@Import(StatementCapture.class)
+class EntitySchemaQueryPlanTest extends RepositoryQueryPlanTest {
+
+    @Override
+    String schema() {
+        return "entity schema";
+    }
+
+    @Override
+    String categoryIndex() {
+        return "idx_expenses_category";
+    }
+}
@@ -0,0 +1,29 @@
+package com.budget.infrastructure.repository;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Query plans on the schema the Flyway migrations build, as the persistent profile runs
+ * it, on an in-memory database of its own.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query_plan_migrated;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("persistent")
+@Import(StatementCapture.class)
+class MigratedSchemaQueryPlanTest extends RepositoryQueryPlanTest {
+
+    @Override
+    String schema() {
+        return "migrated schema";
+    }
+
+    /**
+     * The foreign key on {@code category_id} gets its own index, because H2 only reuses an
+     * index with exactly the key's columns, and the planner picks that one for a bound key.
+     */
+    @Override
+    String categoryIndex() {
+        return "fk_expenses_category_index";
+    }
+}
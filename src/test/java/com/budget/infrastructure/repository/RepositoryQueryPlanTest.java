@@ -0,0 +1,195 @@
+package com.budget.infrastructure.repository;
+
+import com.budget.application.dto.ExpenseSearchCriteria;
+import com.budget.application.dto.ExpenseSearchCriteria.SortOrder;
+import com.budget.application.service.ExpenseSearchService;
+import com.budget.infrastructure.persistence.CategoryDictionary;
+import com.budget.infrastructure.repository.StatementCapture.CapturedStatement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the repository queries are answered from an index. Each test calls the real
+ * query method, captures the SQL Hibernate generated for it together with the bound
+ * values, and asserts on the database's plan for that statement. The subclasses run the
+ * tests against the schema Hibernate generates from the entity mappings and against the
+ * schema built by the migrations.
+ */
+abstract class RepositoryQueryPlanTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private MonthlyFundsRepository monthlyFundsRepository;
+
+    @Autowired
+    private CyclicExpenseRepository cyclicExpenseRepository;
+
+    @Autowired
+    private ExpenseSearchService expenseSearchService;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    /**
+     * Name of the schema under test, for failure messages.
+     */
+    abstract String schema();
+
+    /**
+     * Index that serves lookups by category key, or the prefix of its generated name.
+     */
+    abstract String categoryIndex();
+
+    @Test
+    void findBySpentAtBetweenUsesSpentAtIndex() {
+        assertUsesIndex("expenses", "idx_expenses_spent_at",
+                () -> expenseRepository.findBySpentAtBetween(FROM, TO));
+    }
+
+    @Test
+    void sumAmountBySpentAtBetweenUsesSpentAtIndex() {
+        assertUsesIndex("expenses", "idx_expenses_spent_at",
+                () -> expenseRepository.sumAmountBySpentAtBetween(FROM, TO));
+    }
+
+    @Test
+    void sumAmountByDayBetweenUsesSpentAtIndex() {
+        assertUsesIndex("expenses", "idx_expenses_spent_at",
+                () -> expenseRepository.sumAmountByDayBetween(FROM, TO));
+    }
+
+    @Test
+    void sumAmountByCategoryBetweenUsesSpentAtIndex() {
+        assertUsesIndex("expenses", "idx_expenses_spent_at",
+                () -> expenseRepository.sumAmountByCategoryBetween(FROM, TO));
+    }
+
+    @Test
+    void sumAmountByCategoryAndMonthBetweenUsesSpentAtIndex() {
+        assertUsesIndex("expenses", "idx_expenses_spent_at",
+                () -> expenseRepository.sumAmountByCategoryAndMonthBetween(FROM, TO));
+    }
+
+    @Test
+    void expenseKeysetPageUsesSpentAtIndex() {
+        assertUsesIndex("expenses", "idx_expenses_spent_at",
+                () -> expenseRepository.findPageAfter(LocalDate.of(2026, 1, 15), 100, Limit.of(50)));
+    }
+
+    @Test
+    void findByCategoryUsesCategoryIndex() {
+        assertUsesIndex("expenses", categoryIndex(),
+                () -> expenseRepository.findByCategory("Food"));
+    }
+
+    @Test
+    void searchByCategoriesUsesCategoryIndex() {
+        assertUsesIndex("expenses", categoryIndex(),
+                () -> expenseSearchService.search(
+                        new ExpenseSearchCriteria(null, null, null, null, Set.of("Food", "Rent"), null), null, 50));
+    }
+
+    @Test
+    void searchByAmountRangeUsesAmountIndex() {
+        assertUsesIndex("expenses", "idx_expenses_amount",
+                () -> expenseSearchService.search(new ExpenseSearchCriteria(
+                        null, null, new BigDecimal("100"), new BigDecimal("200"), null, SortOrder.AMOUNT_DESC), null, 50));
+    }
+
+    @Test
+    void categoryLookupUsesUniqueConstraint() {
+        assertUsesIndex("categories", "uk_categories_name",
+                () -> categoryDictionary.find("Plan " + UUID.randomUUID()));
+    }
+
+    @Test
+    void findByYearAndMonthUsesUniqueConstraint() {
+        assertUsesIndex("monthly_funds", "uk_monthly_funds_year_month",
+                () -> monthlyFundsRepository.findByYearAndMonth(2026, 2));
+    }
+
+    @Test
+    void findTopByYearAndMonthOrderByIdDescUsesUniqueConstraint() {
+        assertUsesIndex("monthly_funds", "uk_monthly_funds_year_month",
+                () -> monthlyFundsRepository.findTopByYearAndMonthOrderByIdDesc(2026, 2));
+    }
+
+    @Test
+    void findVersionByYearAndMonthUsesUniqueConstraint() {
+        assertUsesIndex("monthly_funds", "uk_monthly_funds_year_month",
+                () -> monthlyFundsRepository.findVersionByYearAndMonth(2026, 2));
+    }
+
+    @Test
+    void findByYearUsesUniqueConstraint() {
+        assertUsesIndex("monthly_funds", "uk_monthly_funds_year_month",
+                () -> monthlyFundsRepository.findByYear(2026));
+    }
+
+    @Test
+    void fundsKeysetPageUsesUniqueConstraint() {
+        assertUsesIndex("monthly_funds", "uk_monthly_funds_year_month",
+                () -> monthlyFundsRepository.findPageAfter(2026, 2, 100, Limit.of(50)));
+    }
+
+    @Test
+    void findByActiveUsesActiveIndex() {
+        assertUsesIndex("cyclic_expenses", "idx_cyclic_expenses_active",
+                () -> cyclicExpenseRepository.findByActive(true));
+    }
+
+    @Test
+    void cyclicExpenseKeysetPageUsesNameIndex() {
+        assertUsesIndex("cyclic_expenses", "idx_cyclic_expenses_name",
+                () -> cyclicExpenseRepository.findPageAfter("Rent", UUID.randomUUID(), Limit.of(50)));
+    }
+
+    /**
+     * Runs the query and asserts that every statement it sent against the table is planned
+     * on the index, without a table scan.
+     */
+    private void assertUsesIndex(String table, String index, Runnable query) {
+        List<CapturedStatement> statements = StatementCapture.capture(query).stream()
+                .filter(statement -> statement.reads(table))
+                .toList();
+        assertFalse(statements.isEmpty(), () -> schema() + ": no query against " + table + " was executed");
+
+        for (CapturedStatement statement : statements) {
+            String plan = explain(statement);
+            String normalized = plan.toUpperCase(Locale.ROOT);
+            assertTrue(normalized.contains(index.toUpperCase(Locale.ROOT)),
+                    () -> schema() + ": expected " + index + " in plan of\n" + statement + "\n" + plan);
+            assertFalse(normalized.contains("TABLESCAN"),
+                    () -> schema() + ": unexpected table scan in plan of\n" + statement + "\n" + plan);
+        }
+    }
+
+    private String explain(CapturedStatement statement) {
+        try {
+            return statement.explain(dataSource);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot explain " + statement, e);
+        }
+    }
+}
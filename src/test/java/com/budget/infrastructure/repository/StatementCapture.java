@@ -0,0 +1,143 @@
+package com.budget.infrastructure.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps the application's {@link DataSource} so that tests can see the SQL, and the values
+ * bound to it, of the prepared statements that Hibernate, Spring Data and the JDBC code
+ * execute. Only statements executed on the calling thread inside {@link #capture} are
+ * recorded.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class StatementCapture {
+
+    private static final ThreadLocal<List<CapturedStatement>> RECORDING = new ThreadLocal<>();
+
+    @Bean
+    static BeanPostProcessor capturingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    /**
+     * Runs the action and returns the prepared statements it executed, in order.
+     */
+    static List<CapturedStatement> capture(Runnable action) {
+        List<CapturedStatement> recording = new ArrayList<>();
+        RECORDING.set(recording);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return recording;
+    }
+
+    private static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && RECORDING.get() != null) {
+                return wrap((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length > 1 && method.getParameterTypes()[0] == int.class) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute")) {
+                List<CapturedStatement> recording = RECORDING.get();
+                if (recording != null) {
+                    recording.add(new CapturedStatement(sql, List.copyOf(bindings)));
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A {@code PreparedStatement} setter call, e.g. {@code setObject(1, date)}.
+     */
+    record Binding(Method setter, Object[] args) {
+    }
+
+    record CapturedStatement(String sql, List<Binding> bindings) {
+
+        /**
+         * Whether the statement reads the table in its FROM clause.
+         */
+        boolean reads(String table) {
+            return Pattern.compile("\\bfrom\\s+" + Pattern.quote(table) + "\\b", Pattern.CASE_INSENSITIVE)
+                    .matcher(sql)
+                    .find();
+        }
+
+        /**
+         * Query plan of the statement with its captured values bound.
+         */
+        String explain(DataSource dataSource) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Binding binding : bindings) {
+                    binding.setter().invoke(explain, binding.args());
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot bind the parameters of " + sql, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return sql.toLowerCase(Locale.ROOT);
+        }
+    }
+}